@@ -28,22 +28,42 @@ import java.util.Optional;
 /**
  * A {@link ConverterProvider} that uses the given aliases definition and {@link ConverterProvider} to present another view.
  */
-final class AliasesConverterProvider implements ConverterProvider {
+final class AliasesConverterProvider implements ConverterProvider,
+    HasConverterProviderFootprint {
 
     static AliasesConverterProvider with(final ConverterAliasSet aliases,
                                          final ConverterProvider provider) {
+        Objects.requireNonNull(aliases, "aliases");
+        Objects.requireNonNull(provider, "provider");
+
+        return new AliasesConverterProvider(
+            aliases,
+            aliases.merge(provider.converterInfos()),
+            provider
+        );
+    }
+
+    /**
+     * Factory used by {@link ConverterProviderSnapshot} which already holds the merged {@link ConverterInfoSet},
+     * skipping the merge and its validation.
+     */
+    static AliasesConverterProvider withInfos(final ConverterAliasSet aliases,
+                                              final ConverterInfoSet infos,
+                                              final ConverterProvider provider) {
         return new AliasesConverterProvider(
             Objects.requireNonNull(aliases, "aliases"),
+            Objects.requireNonNull(infos, "infos"),
             Objects.requireNonNull(provider, "provider")
         );
     }
 
     private AliasesConverterProvider(final ConverterAliasSet aliases,
+                                     final ConverterInfoSet infos,
                                      final ConverterProvider provider) {
         this.aliases = aliases;
         this.provider = provider;
 
-        this.infos = aliases.merge(provider.converterInfos());
+        this.infos = infos;
     }
 
     @Override
@@ -101,6 +121,20 @@ final class AliasesConverterProvider implements ConverterProvider {
 
     private final ConverterInfoSet infos;
 
+    // HasConverterProviderFootprint....................................................................................
+
+    @Override
+    public ConverterProviderFootprint converterProviderFootprint() {
+        return ConverterProviderFootprint.with(
+            this,
+            this.aliases.size() + this.infos.size(),
+            ConverterProviderFootprint.OBJECT +
+                ConverterProviderFootprint.aliases(this.aliases) +
+                ConverterProviderFootprint.infos(this.infos),
+            this.provider
+        );
+    }
+
     @Override
     public String toString() {
         return this.converterInfos().toString();
@@ -27,22 +27,47 @@ import walkingkooka.tree.json.marshall.JsonNodeContext;
 
 /**
  * Used to force all values types to {@link JsonNodeContext#register}
+ * <br>
+ * {@link #init()} eagerly registers all value types, which also initializes the {@link ConverterName} constants.
+ * {@link #initLazy()} only initializes the plugin dependencies, leaving each value type to register itself when its
+ * class is first used, which is cheaper for short-lived processes. In lazy mode a value type that has not yet been used
+ * cannot be unmarshalled by its type name alone.
  */
 public final class ConvertProviderStartup implements PublicStaticHelper {
 
-    static {
-        PluginStartup.init();
+    /**
+     * Initializes all dependencies and eagerly registers all value types.
+     */
+    public static void init() {
+        initLazy();
 
-        // register json marshallers/unmarshallers.
-        ConverterAliasSet.EMPTY.size();
-        ConverterInfoSet.EMPTY.size();
-        ConverterSelector.parse("hello");
+        if (false == registered) {
+            // register json marshallers/unmarshallers.
+            ConverterAliasSet.EMPTY.size();
+            ConverterInfoSet.EMPTY.size();
+            ConverterSelector.parse("hello");
+
+            registered = true;
+        }
     }
 
-    public static void init() {
-        // NOP
+    /**
+     * Only initializes dependencies, value types will register their json marshallers on first use.
+     */
+    public static void initLazy() {
+        PluginStartup.init();
+    }
+
+    /**
+     * Returns true once {@link #init()} has registered all value types.
+     */
+    // @VisibleForTesting
+    static boolean isRegistered() {
+        return registered;
     }
 
+    private static volatile boolean registered;
+
     private ConvertProviderStartup() {
         throw new UnsupportedOperationException();
     }
@@ -18,6 +18,7 @@
 package walkingkooka.convert.provider;
 
 import walkingkooka.collect.set.ImmutableSortedSetDefaults;
+import walkingkooka.collect.set.Sets;
 import walkingkooka.collect.set.SortedSets;
 import walkingkooka.plugin.PluginAliasSet;
 import walkingkooka.plugin.PluginAliasSetLike;
@@ -34,8 +35,15 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedSet;
 
+/**
+ * A read only {@link java.util.Set} of {@link ConverterAlias}.
+ * <br>
+ * Edits that change nothing return this set. Edits that do change it copy every alias into a new
+ * {@link PluginAliasSet} in O(n), aliases are not structurally shared between versions.
+ */
 public final class ConverterAliasSet extends AbstractSet<ConverterAlias>
     implements PluginAliasSetLike<ConverterName,
     ConverterInfo,
@@ -78,8 +86,160 @@ public final class ConverterAliasSet extends AbstractSet<ConverterAlias>
         );
     }
 
+    /**
+     * Parses the text one {@link ConverterAlias} at a time without first copying it to a {@link String}, which suits
+     * very large texts such as a memory mapped {@link java.nio.CharBuffer}. If any entry is invalid the whole text is
+     * parsed by {@link #parse(String)} so errors are reported with the same text and position.
+     */
+    public static ConverterAliasSet parse(final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        ConverterAliasSet aliases;
+        try {
+            final SortedSet<ConverterAlias> parsed = SortedSets.tree();
+            int count = 0;
+
+            final ConverterTextEntryIterator entries = ConverterTextEntryIterator.with(text);
+            while (entries.hasNext()) {
+                parsed.add(
+                    ConverterAlias.parse(
+                        entries.next()
+                    )
+                );
+                count++;
+            }
+
+            aliases = with(parsed);
+
+            // duplicates were dropped by the SortedSet
+            if (aliases.size() != count) {
+                aliases = null;
+            }
+        } catch (final RuntimeException invalid) {
+            aliases = null;
+        }
+
+        return null != aliases ?
+            aliases :
+            parse(
+                text.toString()
+            );
+    }
+
+    /**
+     * Returns the {@link ConverterAliasSet} for the given text after replacing the characters between start and end
+     * with the replacement. This {@link ConverterAliasSet} must be the result of parsing the given text.
+     * <br>
+     * Only the entries touching the edit are parsed, all other {@link ConverterAlias} are reused. If the edited entries
+     * are invalid the entire edited text is parsed by {@link #parse(String)}, so errors are reported with the same
+     * text and position.
+     */
+    public ConverterAliasSet reparse(final String text,
+                                     final int start,
+                                     final int end,
+                                     final String replacement) {
+        Objects.requireNonNull(text, "text");
+        if (start < 0 || start > end || end > text.length()) {
+            throw new IllegalArgumentException("Invalid range " + start + ".." + end + " expected between 0 and " + text.length());
+        }
+        Objects.requireNonNull(replacement, "replacement");
+
+        final String edited = text.substring(0, start) +
+            replacement +
+            text.substring(end);
+
+        ConverterAliasSet aliases;
+        try {
+            aliases = this.reparse0(
+                text,
+                start,
+                end,
+                edited,
+                replacement.length() - (end - start)
+            );
+        } catch (final RuntimeException invalid) {
+            aliases = null;
+        }
+
+        return null != aliases ?
+            aliases :
+            parse(edited);
+    }
+
+    /**
+     * Removes the {@link ConverterAlias} of the entries touching the edit and adds those parsed from the same region of
+     * the edited text. Returns null if the result cannot be trusted and the edited text must be parsed in full.
+     */
+    private ConverterAliasSet reparse0(final String text,
+                                       final int start,
+                                       final int end,
+                                       final String edited,
+                                       final int delta) {
+        final SortedSet<ConverterAlias> aliases = SortedSets.tree();
+        aliases.addAll(this);
+
+        // remove the aliases of entries touching the edit, remembering the region they cover.
+        int regionStart = -1;
+        int regionEnd = -1;
+        int count = aliases.size();
+
+        final ConverterTextEntryIterator entries = ConverterTextEntryIterator.with(text);
+        while (entries.hasNext()) {
+            final String entry = entries.next();
+            if (entries.end() >= start) {
+                if (entries.start() > end) {
+                    break;
+                }
+                if (-1 == regionStart) {
+                    regionStart = entries.start();
+                }
+                regionEnd = entries.end();
+
+                if (false == aliases.remove(ConverterAlias.parse(entry))) {
+                    return null;
+                }
+                count--;
+            }
+        }
+
+        // blank text, no entries
+        if (-1 == regionStart) {
+            return null;
+        }
+
+        final ConverterTextEntryIterator editedEntries = ConverterTextEntryIterator.with(
+            edited.substring(
+                regionStart,
+                regionEnd + delta
+            )
+        );
+
+        // the entries were deleted leaving a blank region between separators, which may be invalid
+        if (false == editedEntries.hasNext()) {
+            return null;
+        }
+
+        while (editedEntries.hasNext()) {
+            aliases.add(
+                ConverterAlias.parse(
+                    editedEntries.next()
+                )
+            );
+            count++;
+
+            // duplicate alias
+            if (aliases.size() != count) {
+                return null;
+            }
+        }
+
+        return this.setElements(aliases);
+    }
+
     private ConverterAliasSet(final PluginAliasSet<ConverterName, ConverterInfo, ConverterInfoSet, ConverterSelector, ConverterAlias, ConverterAliasSet> pluginAliasSet) {
         this.pluginAliasSet = pluginAliasSet;
+        this.contentHash = ConverterContentHash.hash(pluginAliasSet);
+        this.hashCode = pluginAliasSet.hashCode();
     }
 
     @Override
@@ -109,9 +269,13 @@ public final class ConverterAliasSet extends AbstractSet<ConverterAlias>
 
     @Override
     public ConverterAliasSet concatOrReplace(final ConverterAlias alias) {
-        return new ConverterAliasSet(
-            this.pluginAliasSet.concatOrReplace(alias)
-        );
+        Objects.requireNonNull(alias, "alias");
+
+        return this.containsEqual(alias) ?
+            this :
+            new ConverterAliasSet(
+                this.pluginAliasSet.concatOrReplace(alias)
+            );
     }
 
     @Override
@@ -147,12 +311,22 @@ public final class ConverterAliasSet extends AbstractSet<ConverterAlias>
 
     @Override
     public ConverterAliasSet setElements(final Collection<ConverterAlias> aliases) {
-        final ConverterAliasSet after = new ConverterAliasSet(
-            this.pluginAliasSet.setElements(aliases)
-        );
-        return this.pluginAliasSet.equals(aliases) ?
-            this :
-            after;
+        final ConverterAliasSet set;
+
+        if (aliases instanceof ConverterAliasSet) {
+            // already immutable and validated, share rather than copy
+            set = this.equals(aliases) ?
+                this :
+                (ConverterAliasSet) aliases;
+        } else {
+            set = this.pluginAliasSet.equals(aliases) ?
+                this :
+                new ConverterAliasSet(
+                    this.pluginAliasSet.setElements(aliases)
+                );
+        }
+
+        return set;
     }
 
     @Override
@@ -192,41 +366,98 @@ public final class ConverterAliasSet extends AbstractSet<ConverterAlias>
 
     @Override
     public ConverterAliasSet concat(final ConverterAlias alias) {
-        return this.setElements(
-            this.pluginAliasSet.concat(alias)
-        );
+        Objects.requireNonNull(alias, "alias");
+
+        return this.containsEqual(alias) ?
+            this :
+            this.setElements(
+                this.pluginAliasSet.concat(alias)
+            );
     }
 
     @Override
     public ConverterAliasSet concatAll(final Collection<ConverterAlias> aliases) {
-        return this.setElements(
-            this.pluginAliasSet.concatAll(aliases)
-        );
+        Objects.requireNonNull(aliases, "aliases");
+
+        return this.containsAllEqual(aliases) ?
+            this :
+            this.setElements(
+                this.pluginAliasSet.concatAll(aliases)
+            );
+    }
+
+    /**
+     * The {@link PluginAliasSet} may find an alias by name alone, so a match is confirmed using
+     * {@link ConverterAlias#equals(Object)}, otherwise a same named alias with a different target or url would be
+     * mistaken for an element and dropped.
+     */
+    private boolean containsEqual(final ConverterAlias alias) {
+        return this.pluginAliasSet.contains(alias) &&
+            this.pluginAliasSet.stream()
+                .anyMatch(alias::equals);
+    }
+
+    private boolean containsAllEqual(final Collection<ConverterAlias> aliases) {
+        boolean contains = this.pluginAliasSet.containsAll(aliases);
+
+        if (contains) {
+            final Set<ConverterAlias> elements = Sets.hash();
+            elements.addAll(this);
+            contains = elements.containsAll(aliases);
+        }
+
+        return contains;
     }
 
     @Override
     public ConverterAliasSet delete(final ConverterAlias alias) {
-        return this.setElements(
-            this.pluginAliasSet.delete(alias)
-        );
+        Objects.requireNonNull(alias, "alias");
+
+        return this.pluginAliasSet.contains(alias) ?
+            this.setElements(
+                this.pluginAliasSet.delete(alias)
+            ) :
+            this;
     }
 
     @Override
     public ConverterAliasSet deleteAll(final Collection<ConverterAlias> aliases) {
-        return this.setElements(
-            this.pluginAliasSet.deleteAll(aliases)
-        );
+        Objects.requireNonNull(aliases, "aliases");
+
+        return this.containsAny(aliases) ?
+            this.setElements(
+                this.pluginAliasSet.deleteAll(aliases)
+            ) :
+            this;
     }
 
     @Override
     public ConverterAliasSet replace(final ConverterAlias oldAlias,
                                      final ConverterAlias newAlias) {
-        return this.setElements(
-            this.pluginAliasSet.replace(
-                oldAlias,
-                newAlias
-            )
-        );
+        Objects.requireNonNull(oldAlias, "oldAlias");
+        Objects.requireNonNull(newAlias, "newAlias");
+
+        return Objects.equals(oldAlias, newAlias) ?
+            this :
+            this.setElements(
+                this.pluginAliasSet.replace(
+                    oldAlias,
+                    newAlias
+                )
+            );
+    }
+
+    private boolean containsAny(final Collection<ConverterAlias> aliases) {
+        boolean contains = false;
+
+        for (final ConverterAlias alias : aliases) {
+            if (this.pluginAliasSet.contains(alias)) {
+                contains = true;
+                break;
+            }
+        }
+
+        return contains;
     }
 
     @Override
@@ -256,6 +487,45 @@ public final class ConverterAliasSet extends AbstractSet<ConverterAlias>
 
     private final PluginAliasSet<ConverterName, ConverterInfo, ConverterInfoSet, ConverterSelector, ConverterAlias, ConverterAliasSet> pluginAliasSet;
 
+    // Object...........................................................................................................
+
+    /**
+     * A 64-bit hash of the content computed once at construction. Equal sets always have equal content hashes.
+     */
+    public long contentHash() {
+        return this.contentHash;
+    }
+
+    private final long contentHash;
+
+    /**
+     * The {@link java.util.Set#hashCode()} computed once at construction.
+     */
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    private final int hashCode;
+
+    /**
+     * Compares the content hashes first when comparing with another {@link ConverterAliasSet}, only comparing elements when
+     * they match, otherwise follows the {@link java.util.Set#equals(Object)} contract.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof ConverterAliasSet ?
+                this.equals0((ConverterAliasSet) other) :
+                super.equals(other));
+    }
+
+    private boolean equals0(final ConverterAliasSet other) {
+        return this.contentHash == other.contentHash &&
+            this.hashCode == other.hashCode &&
+            super.equals(other);
+    }
+
     // Json.............................................................................................................
 
     static void register() {
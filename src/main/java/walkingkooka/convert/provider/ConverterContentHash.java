@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+/**
+ * Computes a 64-bit content hash of the elements of an immutable set, using the {@link Object#toString()} of each
+ * element. The hash is independent of iteration order, so equal sets always have equal hashes, while a difference
+ * proves the sets are not equal.
+ */
+final class ConverterContentHash {
+
+    private final static long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private final static long FNV_PRIME = 0x100000001b3L;
+
+    static long hash(final Iterable<?> elements) {
+        long hash = 0;
+
+        for (final Object element : elements) {
+            hash += mix(
+                element(element.toString())
+            );
+        }
+
+        return hash;
+    }
+
+    /**
+     * A FNV-1a hash of the characters of the given text.
+     */
+    private static long element(final String text) {
+        long hash = FNV_OFFSET_BASIS;
+
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+
+        return hash;
+    }
+
+    /**
+     * Spreads the bits so the sum of element hashes does not cancel out, using the finalizer from MurmurHash3.
+     */
+    private static long mix(final long value) {
+        long mixed = value;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xff51afd7ed558ccdL;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xc4ceb9fe1a85ec53L;
+        mixed ^= mixed >>> 33;
+        return mixed;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ConverterContentHash() {
+        throw new UnsupportedOperationException();
+    }
+}
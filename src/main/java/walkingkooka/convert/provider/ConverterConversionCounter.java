@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+/**
+ * Lock free counters for a single {@link ConverterName} and source to target type pair. Each counter is a
+ * {@link ConverterStripedLong} so concurrent recording threads rarely contend, while staying J2CL compatible. The
+ * hint passed to each method picks the first stripe tried.
+ */
+final class ConverterConversionCounter {
+
+    static ConverterConversionCounter empty() {
+        return new ConverterConversionCounter();
+    }
+
+    private ConverterConversionCounter() {
+        super();
+    }
+
+    void canConvert(final int hint) {
+        this.canConvertCount.add(
+            hint,
+            1
+        );
+    }
+
+    void convert(final int hint,
+                 final boolean success) {
+        final int stripe = this.convertCount.add(
+            hint,
+            1
+        );
+        if (false == success) {
+            this.convertFailureCount.add(
+                stripe,
+                1
+            );
+        }
+    }
+
+    void sample(final int hint,
+                final long nanos) {
+        final int stripe = this.sampleCount.add(
+            hint,
+            1
+        );
+        this.sampleNanos.add(
+            stripe,
+            nanos
+        );
+    }
+
+    ConverterConversionMetric metric() {
+        return ConverterConversionMetric.with(
+            this.canConvertCount.sum(),
+            this.convertCount.sum(),
+            this.convertFailureCount.sum(),
+            this.sampleCount.sum(),
+            this.sampleNanos.sum()
+        );
+    }
+
+    private final ConverterStripedLong canConvertCount = ConverterStripedLong.empty();
+
+    private final ConverterStripedLong convertCount = ConverterStripedLong.empty();
+
+    private final ConverterStripedLong convertFailureCount = ConverterStripedLong.empty();
+
+    private final ConverterStripedLong sampleCount = ConverterStripedLong.empty();
+
+    private final ConverterStripedLong sampleNanos = ConverterStripedLong.empty();
+
+    @Override
+    public String toString() {
+        return this.metric()
+            .toString();
+    }
+}
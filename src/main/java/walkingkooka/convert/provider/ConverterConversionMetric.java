@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+
+import java.util.Objects;
+
+/**
+ * An immutable snapshot of the statistics recorded for a {@link Converter} with a single {@link ConverterName} and
+ * source to target type pair. Only some {@link Converter#convert(Object, Class, walkingkooka.convert.ConverterContext)}
+ * calls are timed, {@link #estimatedNanos()} extrapolates the sampled time to all calls.
+ */
+public final class ConverterConversionMetric {
+
+    static ConverterConversionMetric with(final long canConvertCount,
+                                          final long convertCount,
+                                          final long convertFailureCount,
+                                          final long sampleCount,
+                                          final long sampleNanos) {
+        return new ConverterConversionMetric(
+            canConvertCount,
+            convertCount,
+            convertFailureCount,
+            sampleCount,
+            sampleNanos
+        );
+    }
+
+    private ConverterConversionMetric(final long canConvertCount,
+                                      final long convertCount,
+                                      final long convertFailureCount,
+                                      final long sampleCount,
+                                      final long sampleNanos) {
+        this.canConvertCount = canConvertCount;
+        this.convertCount = convertCount;
+        this.convertFailureCount = convertFailureCount;
+        this.sampleCount = sampleCount;
+        this.sampleNanos = sampleNanos;
+    }
+
+    public long canConvertCount() {
+        return this.canConvertCount;
+    }
+
+    private final long canConvertCount;
+
+    public long convertCount() {
+        return this.convertCount;
+    }
+
+    private final long convertCount;
+
+    public long convertSuccessCount() {
+        return this.convertCount - this.convertFailureCount;
+    }
+
+    public long convertFailureCount() {
+        return this.convertFailureCount;
+    }
+
+    private final long convertFailureCount;
+
+    /**
+     * The number of convert calls that were timed.
+     */
+    public long sampleCount() {
+        return this.sampleCount;
+    }
+
+    private final long sampleCount;
+
+    /**
+     * The total nanos spent in the timed convert calls.
+     */
+    public long sampleNanos() {
+        return this.sampleNanos;
+    }
+
+    private final long sampleNanos;
+
+    /**
+     * The estimated total nanos spent in all convert calls.
+     */
+    public long estimatedNanos() {
+        final long sampleCount = this.sampleCount;
+        return 0 == sampleCount ?
+            0 :
+            (long) ((double) this.sampleNanos / sampleCount * this.convertCount);
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.canConvertCount,
+            this.convertCount,
+            this.convertFailureCount,
+            this.sampleCount,
+            this.sampleNanos
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ConverterConversionMetric &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ConverterConversionMetric other) {
+        return this.canConvertCount == other.canConvertCount &&
+            this.convertCount == other.convertCount &&
+            this.convertFailureCount == other.convertFailureCount &&
+            this.sampleCount == other.sampleCount &&
+            this.sampleNanos == other.sampleNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "canConvert=" + this.canConvertCount +
+            " convert=" + this.convertCount +
+            " failures=" + this.convertFailureCount +
+            " samples=" + this.sampleCount +
+            " sampleNanos=" + this.sampleNanos;
+    }
+}
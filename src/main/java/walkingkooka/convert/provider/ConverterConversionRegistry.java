@@ -0,0 +1,179 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.collect.map.Maps;
+import walkingkooka.convert.Converter;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+
+/**
+ * Holds the runtime statistics of instrumented {@link Converter}, grouped by {@link ConverterName} and then by source
+ * to target type pair. Recording is lock free, and {@link #snapshot()} may be called at any time to dump the current
+ * numbers.
+ */
+public final class ConverterConversionRegistry {
+
+    public static ConverterConversionRegistry create() {
+        return new ConverterConversionRegistry();
+    }
+
+    private ConverterConversionRegistry() {
+        super();
+    }
+
+    /**
+     * Returns the counters for a single {@link ConverterName}, grouped by source then target type.
+     */
+    Map<Class<?>, Map<Class<?>, ConverterConversionCounter>> counters(final ConverterName name) {
+        return getOrCreate(
+            this.nameToCounters,
+            name
+        );
+    }
+
+    /**
+     * Returns the counter for a source and target type pair, creating it when absent. Lookups use the {@link Class}
+     * themselves and do not allocate a key on the hot path.
+     */
+    static ConverterConversionCounter counter(final Map<Class<?>, Map<Class<?>, ConverterConversionCounter>> counters,
+                                              final Class<?> source,
+                                              final Class<?> target) {
+        final Map<Class<?>, ConverterConversionCounter> targetToCounter = getOrCreate(
+            counters,
+            source
+        );
+
+        ConverterConversionCounter counter = targetToCounter.get(target);
+        if (null == counter) {
+            final ConverterConversionCounter created = ConverterConversionCounter.empty();
+            counter = targetToCounter.putIfAbsent(
+                target,
+                created
+            );
+            if (null == counter) {
+                counter = created;
+            }
+        }
+        return counter;
+    }
+
+    private static <K, KK, V> Map<KK, V> getOrCreate(final Map<K, Map<KK, V>> map,
+                                                     final K key) {
+        Map<KK, V> value = map.get(key);
+        if (null == value) {
+            final Map<KK, V> created = Maps.concurrent();
+            value = map.putIfAbsent(
+                key,
+                created
+            );
+            if (null == value) {
+                value = created;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the {@link ConverterConversionMetric} for the given {@link ConverterName}, source and target types if any
+     * were recorded. Reading never creates counters, so unrecorded pairs never appear in {@link #snapshot()}.
+     */
+    public ConverterConversionMetric metric(final ConverterName name,
+                                            final Class<?> source,
+                                            final Class<?> target) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(target, "target");
+
+        final Map<Class<?>, Map<Class<?>, ConverterConversionCounter>> counters = this.nameToCounters.get(name);
+        final Map<Class<?>, ConverterConversionCounter> targetToCounter = null == counters ?
+            null :
+            counters.get(source);
+        final ConverterConversionCounter counter = null == targetToCounter ?
+            null :
+            targetToCounter.get(target);
+
+        return null == counter ?
+            EMPTY :
+            counter.metric();
+    }
+
+    private final static ConverterConversionMetric EMPTY = ConverterConversionMetric.with(
+        0,
+        0,
+        0,
+        0,
+        0
+    );
+
+    /**
+     * Returns a read only snapshot sorted by {@link ConverterName}, where each value is keyed by
+     * <code>source-type-name -> target-type-name</code>.
+     */
+    public Map<ConverterName, Map<String, ConverterConversionMetric>> snapshot() {
+        final SortedMap<ConverterName, Map<String, ConverterConversionMetric>> snapshot = Maps.sorted();
+
+        for (final Map.Entry<ConverterName, Map<Class<?>, Map<Class<?>, ConverterConversionCounter>>> nameAndCounters : this.nameToCounters.entrySet()) {
+            final SortedMap<String, ConverterConversionMetric> pairToMetric = Maps.sorted();
+
+            for (final Map.Entry<Class<?>, Map<Class<?>, ConverterConversionCounter>> sourceAndCounters : nameAndCounters.getValue().entrySet()) {
+                final String source = sourceAndCounters.getKey()
+                    .getName();
+
+                for (final Map.Entry<Class<?>, ConverterConversionCounter> targetAndCounter : sourceAndCounters.getValue().entrySet()) {
+                    pairToMetric.put(
+                        source + " -> " + targetAndCounter.getKey().getName(),
+                        targetAndCounter.getValue()
+                            .metric()
+                    );
+                }
+            }
+
+            snapshot.put(
+                nameAndCounters.getKey(),
+                Maps.readOnly(pairToMetric)
+            );
+        }
+
+        return Maps.readOnly(snapshot);
+    }
+
+    /**
+     * The total number of counters for all {@link ConverterName} and source and target type pairs.
+     */
+    int size() {
+        int size = 0;
+
+        for (final Map<Class<?>, Map<Class<?>, ConverterConversionCounter>> counters : this.nameToCounters.values()) {
+            for (final Map<Class<?>, ConverterConversionCounter> targetToCounter : counters.values()) {
+                size += targetToCounter.size();
+            }
+        }
+        return size;
+    }
+
+    private final Map<ConverterName, Map<Class<?>, Map<Class<?>, ConverterConversionCounter>>> nameToCounters = Maps.concurrent();
+
+    @Override
+    public String toString() {
+        return this.snapshot()
+            .toString();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+/**
+ * Identifies the source of each {@link ConverterEventListener} event.
+ */
+public enum ConverterEventKind {
+
+    /**
+     * {@link ConverterSelector#evaluateValueText(ConverterProvider, walkingkooka.plugin.ProviderContext)}
+     */
+    SELECTOR_EVALUATE_VALUE_TEXT,
+
+    /**
+     * {@link ConvertersConverterProvider#converter(ConverterName, java.util.List, walkingkooka.plugin.ProviderContext)}
+     */
+    CONVERTERS_CONVERTER,
+
+    /**
+     * {@link ConverterProviderCollection#converter(ConverterName, java.util.List, walkingkooka.plugin.ProviderContext)}
+     */
+    COLLECTION_CONVERTER,
+
+    /**
+     * {@link ConverterExecutor} resolving a {@link ConverterSelector} possibly from its cache.
+     */
+    EXECUTOR_CONVERTER
+}
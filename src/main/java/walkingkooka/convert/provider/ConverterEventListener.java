@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import java.util.Optional;
+
+/**
+ * A listener that receives converter resolution and evaluation events, installed using
+ * {@link ConverterEvents#setListener(ConverterEventListener)}. Events may nest, every {@link #begin()} is followed by
+ * exactly one {@link #end(ConverterEventKind, String, Optional, long, boolean, boolean)} on the same thread, which
+ * allows a listener to track the depth if required.
+ */
+public interface ConverterEventListener {
+
+    /**
+     * Called before the resolution or evaluation begins.
+     */
+    void begin();
+
+    /**
+     * Called after the resolution or evaluation completes or fails.
+     */
+    void end(final ConverterEventKind kind,
+             final String text,
+             final Optional<ConverterName> name,
+             final long nanos,
+             final boolean cacheHit,
+             final boolean success);
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Holds the single optional {@link ConverterEventListener}. When no listener is installed, which is the default, each
+ * instrumented site only pays for a single field read.
+ */
+public final class ConverterEvents {
+
+    /**
+     * Installs the given {@link ConverterEventListener} replacing any previous.
+     */
+    public static void setListener(final ConverterEventListener listener) {
+        ConverterEvents.listener = Objects.requireNonNull(listener, "listener");
+    }
+
+    /**
+     * Removes any installed {@link ConverterEventListener}.
+     */
+    public static void clearListener() {
+        ConverterEvents.listener = null;
+    }
+
+    /**
+     * Returns the current {@link ConverterEventListener} or null when events are disabled.
+     */
+    static ConverterEventListener listener() {
+        return listener;
+    }
+
+    private static volatile ConverterEventListener listener;
+
+    /**
+     * Times the given {@link Supplier} and reports it to the {@link ConverterEventListener}. Callers should only call
+     * this after checking {@link #listener()} is not null, so no lambda is created when events are disabled.
+     */
+    static <T> T record(final ConverterEventListener listener,
+                        final ConverterEventKind kind,
+                        final String text,
+                        final ConverterName name,
+                        final boolean cacheHit,
+                        final Supplier<T> supplier) {
+        listener.begin();
+
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final T value = supplier.get();
+            success = true;
+            return value;
+        } finally {
+            listener.end(
+                kind,
+                text,
+                Optional.ofNullable(name),
+                System.nanoTime() - start,
+                cacheHit,
+                success
+            );
+        }
+    }
+
+    /**
+     * Stop creation
+     */
+    private ConverterEvents() {
+        throw new UnsupportedOperationException();
+    }
+}
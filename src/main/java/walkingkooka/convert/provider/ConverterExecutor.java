@@ -0,0 +1,280 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.plugin.ProviderContext;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An executor style facade over a {@link ConverterProvider} and {@link ProviderContext} that runs resolution and
+ * conversion tasks on the given {@link Executor}, which will typically be a virtual thread per task executor.
+ * <br>
+ * Resolved {@link Converter} are cached by {@link ConverterSelector}. The cache never holds a monitor while resolving,
+ * a miss resolves outside any lock and then uses {@link ConcurrentMap#putIfAbsent(Object, Object)}, which means a
+ * blocking {@link ConverterProvider} will never pin a virtual thread to its carrier. Two tasks racing on the same miss
+ * may both resolve, but only the first {@link Converter} is kept and returned to both. The cache holds at most
+ * {@link #cacheCapacity} entries, when full an arbitrary entry is evicted before another is added.
+ * <br>
+ * No {@link ThreadLocal} or other per carrier state is used, all working state lives on the stack of each task.
+ * <br>
+ * {@link #close()} clears the cache and shuts down the {@link ExecutorService} created by
+ * {@link #virtualThreads(ConverterProvider, ProviderContext)}, an {@link Executor} given to a <code>with</code> factory
+ * belongs to the caller and is never shut down.
+ * <br>
+ * Note this class is not J2CL compatible and is listed in the j2cl ignored files.
+ */
+public final class ConverterExecutor implements AutoCloseable {
+
+    /**
+     * The default maximum number of cached {@link Converter}.
+     */
+    public final static int DEFAULT_CACHE_CAPACITY = 1024;
+
+    /**
+     * Creates a {@link ConverterExecutor} that runs each task on a new virtual thread. This requires Java 21 or later,
+     * and fails with {@link UnsupportedOperationException} on earlier versions.
+     */
+    public static ConverterExecutor virtualThreads(final ConverterProvider provider,
+                                                   final ProviderContext context) {
+        Objects.requireNonNull(provider, "provider");
+        Objects.requireNonNull(context, "context");
+
+        return new ConverterExecutor(
+            provider,
+            context,
+            virtualThreadPerTaskExecutor(),
+            DEFAULT_CACHE_CAPACITY,
+            true // owned
+        );
+    }
+
+    /**
+     * Uses reflection to create a virtual thread per task {@link ExecutorService}, because the method is not available
+     * in the Java version this project targets.
+     */
+    static ExecutorService virtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (final ReflectiveOperationException cause) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21+", cause);
+        }
+    }
+
+    public static ConverterExecutor with(final ConverterProvider provider,
+                                         final ProviderContext context,
+                                         final Executor executor) {
+        return with(
+            provider,
+            context,
+            executor,
+            DEFAULT_CACHE_CAPACITY
+        );
+    }
+
+    public static ConverterExecutor with(final ConverterProvider provider,
+                                         final ProviderContext context,
+                                         final Executor executor,
+                                         final int cacheCapacity) {
+        Objects.requireNonNull(provider, "provider");
+        Objects.requireNonNull(context, "context");
+        Objects.requireNonNull(executor, "executor");
+        if (cacheCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid cacheCapacity " + cacheCapacity + " <= 0");
+        }
+
+        return new ConverterExecutor(
+            provider,
+            context,
+            executor,
+            cacheCapacity,
+            false // owned
+        );
+    }
+
+    private ConverterExecutor(final ConverterProvider provider,
+                              final ProviderContext context,
+                              final Executor executor,
+                              final int cacheCapacity,
+                              final boolean ownsExecutor) {
+        this.provider = provider;
+        this.context = context;
+        this.executor = executor;
+        this.cacheCapacity = cacheCapacity;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Resolves the {@link ConverterSelector} on the {@link Executor}, using any previously cached {@link Converter}.
+     */
+    public <C extends ConverterContext> CompletableFuture<Converter<C>> converter(final ConverterSelector selector) {
+        Objects.requireNonNull(selector, "selector");
+
+        return CompletableFuture.supplyAsync(
+            () -> this.<C>resolve(selector),
+            this.executor
+        );
+    }
+
+    /**
+     * Resolves the {@link ConverterSelector} and then converts the value on the {@link Executor}. A failed conversion
+     * completes the returned {@link CompletableFuture} with an {@link IllegalArgumentException}.
+     */
+    public <T, C extends ConverterContext> CompletableFuture<T> convert(final ConverterSelector selector,
+                                                                        final Object value,
+                                                                        final Class<T> type,
+                                                                        final C context) {
+        Objects.requireNonNull(selector, "selector");
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(context, "context");
+
+        return CompletableFuture.supplyAsync(
+            () -> {
+                final Converter<C> converter = this.resolve(selector);
+                final Either<T, String> converted = converter.convert(
+                    value,
+                    type,
+                    context
+                );
+                if (converted.isRight()) {
+                    throw new IllegalArgumentException(
+                        converted.rightValue()
+                    );
+                }
+                return converted.leftValue();
+            },
+            this.executor
+        );
+    }
+
+    private <C extends ConverterContext> Converter<C> resolve(final ConverterSelector selector) {
+        final Converter<?> cached = this.cache.get(selector);
+
+        final ConverterEventListener listener = ConverterEvents.listener();
+        return null == listener ?
+            this.resolve0(
+                selector,
+                cached
+            ) :
+            ConverterEvents.record(
+                listener,
+                ConverterEventKind.EXECUTOR_CONVERTER,
+                selector.toString(),
+                selector.name(),
+                null != cached,
+                () -> this.<C>resolve0(
+                    selector,
+                    cached
+                )
+            );
+    }
+
+    private <C extends ConverterContext> Converter<C> resolve0(final ConverterSelector selector,
+                                                               final Converter<?> cached) {
+        Converter<?> converter = cached;
+        if (null == converter) {
+            // resolve outside any lock, the provider may block.
+            final Converter<?> resolved = this.provider.converter(
+                selector,
+                this.context
+            );
+            this.evictIfFull();
+            converter = this.cache.putIfAbsent(
+                selector,
+                resolved
+            );
+            if (null == converter) {
+                converter = resolved;
+            }
+        }
+
+        return Cast.to(converter);
+    }
+
+    /**
+     * Removes an arbitrary entry when the cache is full. Concurrent misses may briefly overshoot the capacity by the
+     * number of racing tasks, which is preferable to holding a lock while resolving.
+     */
+    private void evictIfFull() {
+        final ConcurrentMap<ConverterSelector, Converter<?>> cache = this.cache;
+        if (cache.size() >= this.cacheCapacity) {
+            final Iterator<ConverterSelector> keys = cache.keySet().iterator();
+            if (keys.hasNext()) {
+                cache.remove(keys.next());
+            }
+        }
+    }
+
+    /**
+     * The number of cached {@link Converter}.
+     */
+    public int cacheSize() {
+        return this.cache.size();
+    }
+
+    /**
+     * Removes all cached {@link Converter}.
+     */
+    public void clearCache() {
+        this.cache.clear();
+    }
+
+    /**
+     * Clears the cache and shuts down the {@link ExecutorService} if it was created by this {@link ConverterExecutor}.
+     */
+    @Override
+    public void close() {
+        this.clearCache();
+
+        if (this.ownsExecutor) {
+            ((ExecutorService) this.executor).shutdown();
+        }
+    }
+
+    private final ConverterProvider provider;
+
+    private final ProviderContext context;
+
+    private final Executor executor;
+
+    /**
+     * When true the {@link #executor} is an {@link ExecutorService} created by {@link #virtualThreads(ConverterProvider, ProviderContext)}.
+     */
+    private final boolean ownsExecutor;
+
+    private final int cacheCapacity;
+
+    private final ConcurrentMap<ConverterSelector, Converter<?>> cache = new ConcurrentHashMap<>();
+
+    @Override
+    public String toString() {
+        return this.provider.toString();
+    }
+}
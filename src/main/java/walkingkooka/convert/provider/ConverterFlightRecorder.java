@@ -0,0 +1,142 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.Optional;
+
+/**
+ * Installs a {@link ConverterEventListener} that commits a JDK Flight Recorder event for each converter resolution or
+ * evaluation. The event is disabled by default and must be enabled in the recording settings, eg
+ * <pre>
+ * jcmd PID JFR.start settings=profile +walkingkooka.convert.provider.ConverterResolution#enabled=true
+ * </pre>
+ * Nested events record their depth, so a composite selector such as <code>collection(a, b)</code> may be viewed as a
+ * tree in JDK Mission Control.
+ * <br>
+ * Note this class is not J2CL compatible and is listed in the j2cl ignored files.
+ */
+public final class ConverterFlightRecorder {
+
+    /**
+     * The name of the JFR event.
+     */
+    public final static String EVENT_NAME = "walkingkooka.convert.provider.ConverterResolution";
+
+    /**
+     * Installs the listener that commits JFR events.
+     */
+    public static void enable() {
+        ConverterEvents.setListener(LISTENER);
+    }
+
+    /**
+     * Removes any installed listener.
+     */
+    public static void disable() {
+        ConverterEvents.clearListener();
+    }
+
+    private final static ConverterEventListener LISTENER = new ConverterEventListener() {
+
+        @Override
+        public void begin() {
+            DEPTH.get()[0]++;
+        }
+
+        @Override
+        public void end(final ConverterEventKind kind,
+                        final String text,
+                        final Optional<ConverterName> name,
+                        final long nanos,
+                        final boolean cacheHit,
+                        final boolean success) {
+            final int[] depth = DEPTH.get();
+            final int current = --depth[0];
+
+            final ConverterResolutionEvent event = new ConverterResolutionEvent();
+            if (event.isEnabled()) {
+                event.kind = kind.name();
+                event.text = text;
+                event.converterName = name.map(ConverterName::value)
+                    .orElse(null);
+                event.depth = current;
+                event.nanos = nanos;
+                event.cacheHit = cacheHit;
+                event.success = success;
+                event.commit();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return ConverterFlightRecorder.class.getSimpleName();
+        }
+    };
+
+    /**
+     * Holds the current nesting depth for each thread, a single element array avoids boxing.
+     */
+    private final static ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Name(EVENT_NAME)
+    @Label("Converter Resolution")
+    @Category({"walkingkooka", "Converter"})
+    @Description("The resolution or evaluation of a converter")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class ConverterResolutionEvent extends Event {
+
+        @Label("Kind")
+        String kind;
+
+        @Label("Text")
+        String text;
+
+        @Label("Converter Name")
+        String converterName;
+
+        @Label("Depth")
+        int depth;
+
+        @Label("Duration")
+        @Timespan(Timespan.NANOSECONDS)
+        long nanos;
+
+        @Label("Cache Hit")
+        boolean cacheHit;
+
+        @Label("Success")
+        boolean success;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ConverterFlightRecorder() {
+        throw new UnsupportedOperationException();
+    }
+}
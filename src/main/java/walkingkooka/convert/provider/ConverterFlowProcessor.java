@@ -0,0 +1,406 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.Either;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.plugin.ProviderContext;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Processor} that resolves a {@link ConverterSelector} once using a {@link ConverterProvider} and then
+ * converts each item as it arrives to the given target type.
+ * <br>
+ * Items are requested from upstream in batches of {@link #batchSize}, never exceeding {@link #bufferSize} items that are
+ * either buffered or in flight. Items are only converted and delivered downstream when the single {@link Flow.Subscriber}
+ * has signalled demand. Only one subscriber is supported, which guarantees the resolved {@link Converter} and its
+ * {@link ConverterContext} are only ever used by one drain loop at a time.
+ * <br>
+ * Note this class is not J2CL compatible and is listed in the j2cl ignored files.
+ */
+public final class ConverterFlowProcessor<T, C extends ConverterContext> implements Flow.Processor<Object, T> {
+
+    public static <T, C extends ConverterContext> ConverterFlowProcessor<T, C> with(final ConverterSelector selector,
+                                                                                     final ConverterProvider provider,
+                                                                                     final ProviderContext providerContext,
+                                                                                     final Class<T> type,
+                                                                                     final C context,
+                                                                                     final int bufferSize,
+                                                                                     final int batchSize) {
+        Objects.requireNonNull(selector, "selector");
+        Objects.requireNonNull(provider, "provider");
+        Objects.requireNonNull(providerContext, "providerContext");
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(context, "context");
+
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Invalid bufferSize " + bufferSize + " <= 0");
+        }
+        if (batchSize <= 0 || batchSize > bufferSize) {
+            throw new IllegalArgumentException("Invalid batchSize " + batchSize + " expected between 1 and " + bufferSize);
+        }
+
+        return new ConverterFlowProcessor<>(
+            provider.converter(
+                selector,
+                providerContext
+            ),
+            type,
+            context,
+            bufferSize,
+            batchSize
+        );
+    }
+
+    private ConverterFlowProcessor(final Converter<C> converter,
+                                   final Class<T> type,
+                                   final C context,
+                                   final int bufferSize,
+                                   final int batchSize) {
+        this.converter = converter;
+        this.type = type;
+        this.context = context;
+        this.bufferSize = bufferSize;
+        this.batchSize = batchSize;
+    }
+
+    // Subscriber.......................................................................................................
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+
+        if (null != this.upstream) {
+            subscription.cancel();
+        } else {
+            this.upstream = subscription;
+            this.drain();
+        }
+    }
+
+    @Override
+    public void onNext(final Object item) {
+        Objects.requireNonNull(item, "item");
+
+        if (false == this.done) {
+            if (this.buffered.incrementAndGet() > this.bufferSize) {
+                this.fail(
+                    new IllegalStateException("Upstream ignored backpressure, buffer of " + this.bufferSize + " full")
+                );
+            } else {
+                this.queue.offer(item);
+                this.drain();
+            }
+        }
+    }
+
+    @Override
+    public void onError(final Throwable cause) {
+        Objects.requireNonNull(cause, "cause");
+
+        if (false == this.done) {
+            this.error = cause;
+            this.done = true;
+            this.drain();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (false == this.done) {
+            this.done = true;
+            this.drain();
+        }
+    }
+
+    // Publisher........................................................................................................
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+
+        if (this.subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(
+                new ConverterFlowProcessorSubscription()
+            );
+            this.downstream = subscriber;
+            this.drain();
+        } else {
+            subscriber.onSubscribe(
+                new Flow.Subscription() {
+                    @Override
+                    public void request(final long n) {
+                        // ignored
+                    }
+
+                    @Override
+                    public void cancel() {
+                        // ignored
+                    }
+                }
+            );
+            subscriber.onError(
+                new IllegalStateException(this.getClass().getSimpleName() + " only supports a single subscriber")
+            );
+        }
+    }
+
+    /**
+     * The {@link Flow.Subscription} given to the one downstream {@link Flow.Subscriber}.
+     */
+    private final class ConverterFlowProcessorSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                ConverterFlowProcessor.this.fail(
+                    new IllegalArgumentException("Invalid request " + n + " <= 0")
+                );
+            } else {
+                ConverterFlowProcessor.this.demand.getAndAccumulate(
+                    n,
+                    (a, b) -> {
+                        final long sum = a + b;
+                        return sum < 0 ?
+                            Long.MAX_VALUE :
+                            sum;
+                    }
+                );
+                ConverterFlowProcessor.this.drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            ConverterFlowProcessor.this.cancel();
+        }
+    }
+
+    // drain............................................................................................................
+
+    /**
+     * Converts and delivers buffered items to satisfy downstream demand and requests more items from upstream when
+     * there is room for at least another batch. Only one thread will ever be executing the loop at any time.
+     */
+    private void drain() {
+        if (this.wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        for (; ; ) {
+            if (this.cancelled) {
+                this.queue.clear();
+                return;
+            }
+
+            final Flow.Subscriber<? super T> downstream = this.downstream;
+            if (null != downstream) {
+                if (this.emit(downstream)) {
+                    return;
+                }
+            }
+
+            this.requestUpstream();
+
+            missed = this.wip.addAndGet(-missed);
+            if (0 == missed) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns true if a terminal signal was sent downstream. Errors are delivered immediately, discarding any buffered
+     * items, while completion is only delivered after all buffered items have been delivered. A {@link Converter} that
+     * throws fails the processor just like a failed conversion, rather than escaping and leaving {@link #wip} non zero.
+     */
+    private boolean emit(final Flow.Subscriber<? super T> downstream) {
+        final long demand = this.demand.get();
+        long emitted = 0;
+
+        for (; ; ) {
+            if (this.cancelled) {
+                this.queue.clear();
+                return true;
+            }
+
+            final boolean done = this.done;
+            if (done && null != this.error) {
+                this.terminate(downstream);
+                return true;
+            }
+
+            final Object item = emitted == demand ?
+                null :
+                this.queue.poll();
+
+            if (null == item) {
+                if (done && this.queue.isEmpty()) {
+                    this.terminate(downstream);
+                    return true;
+                }
+                break;
+            }
+
+            this.buffered.decrementAndGet();
+            this.consumed++;
+
+            final Either<T, String> converted;
+            try {
+                converted = this.converter.convert(
+                    item,
+                    this.type,
+                    this.context
+                );
+            } catch (final RuntimeException cause) {
+                this.fail(cause);
+                continue;
+            }
+            if (converted.isRight()) {
+                this.fail(
+                    new IllegalArgumentException(
+                        converted.rightValue()
+                    )
+                );
+                continue;
+            }
+
+            downstream.onNext(
+                converted.leftValue()
+            );
+            emitted++;
+        }
+
+        if (0 != emitted && Long.MAX_VALUE != demand) {
+            this.demand.addAndGet(-emitted);
+        }
+        return false;
+    }
+
+    /**
+     * Requests whole batches from upstream while the number of buffered and in flight items leaves room for another.
+     */
+    private void requestUpstream() {
+        final Flow.Subscription upstream = this.upstream;
+        if (null != upstream && false == this.done) {
+            final int batchSize = this.batchSize;
+
+            while (this.bufferSize - (this.requested - this.consumed) >= batchSize) {
+                this.requested += batchSize;
+                upstream.request(batchSize);
+            }
+        }
+    }
+
+    private void terminate(final Flow.Subscriber<? super T> downstream) {
+        this.cancelled = true;
+        this.queue.clear();
+
+        final Throwable error = this.error;
+        if (null != error) {
+            downstream.onError(error);
+        } else {
+            downstream.onComplete();
+        }
+    }
+
+    private void fail(final Throwable cause) {
+        if (null == this.error) {
+            this.error = cause;
+        }
+        this.done = true;
+        this.cancelUpstream();
+        this.drain();
+    }
+
+    private void cancel() {
+        this.cancelled = true;
+        this.cancelUpstream();
+        this.drain();
+    }
+
+    private void cancelUpstream() {
+        final Flow.Subscription upstream = this.upstream;
+        if (null != upstream) {
+            upstream.cancel();
+        }
+    }
+
+    /**
+     * The {@link Converter} resolved once when this processor was created.
+     */
+    private final Converter<C> converter;
+
+    private final Class<T> type;
+
+    private final C context;
+
+    /**
+     * The maximum number of items that may be buffered or requested but not yet received.
+     */
+    private final int bufferSize;
+
+    /**
+     * The number of items requested from upstream at a time.
+     */
+    private final int batchSize;
+
+    private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger buffered = new AtomicInteger();
+
+    private final AtomicLong demand = new AtomicLong();
+
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private volatile Flow.Subscription upstream;
+
+    private volatile Flow.Subscriber<? super T> downstream;
+
+    private volatile boolean done;
+
+    private volatile boolean cancelled;
+
+    private volatile Throwable error;
+
+    /**
+     * The total number of items requested from upstream, only updated within {@link #drain()}.
+     */
+    private long requested;
+
+    /**
+     * The total number of items taken from the {@link #queue}, only updated within {@link #drain()}.
+     */
+    private long consumed;
+
+    @Override
+    public String toString() {
+        return this.converter + " " + this.type.getName();
+    }
+}
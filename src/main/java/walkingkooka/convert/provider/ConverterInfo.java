@@ -34,17 +34,40 @@ import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
 public final class ConverterInfo implements PluginInfoLike<ConverterInfo, ConverterName>,
     HateosResource<ConverterName> {
 
+    /**
+     * Parses the text into a {@link ConverterInfo}, returning the shared instance if it is one of the
+     * {@link ConvertersConverterProvider} infos.
+     */
     public static ConverterInfo parse(final String text) {
-        return new ConverterInfo(
-            PluginInfo.parse(
-                text,
-                ConverterName::with
+        return ConverterInfoBuiltins.intern(
+            new ConverterInfo(
+                PluginInfo.parse(
+                    text,
+                    ConverterName::with
+                )
             )
         );
     }
 
+    /**
+     * Creates a {@link ConverterInfo}, returning the shared instance if it is one of the {@link ConvertersConverterProvider}
+     * infos.
+     */
     public static ConverterInfo with(final AbsoluteUrl url,
                                      final ConverterName name) {
+        return ConverterInfoBuiltins.intern(
+            builtin(
+                url,
+                name
+            )
+        );
+    }
+
+    /**
+     * Creates a {@link ConverterInfo} without interning, only used by {@link ConverterInfoBuiltins}.
+     */
+    static ConverterInfo builtin(final AbsoluteUrl url,
+                                 final ConverterName name) {
         return new ConverterInfo(
             PluginInfo.with(
                 url,
@@ -75,8 +98,10 @@ public final class ConverterInfo implements PluginInfoLike<ConverterInfo, Conver
     public ConverterInfo setName(final ConverterName name) {
         return this.name().equals(name) ?
             this :
-            new ConverterInfo(
-                this.pluginInfo.setName(name)
+            ConverterInfoBuiltins.intern(
+                new ConverterInfo(
+                    this.pluginInfo.setName(name)
+                )
             );
     }
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.net.AbsoluteUrl;
+import walkingkooka.net.UrlPathName;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds a single shared {@link ConverterInfo} for each {@link ConverterName} supported by {@link ConvertersConverterProvider}.
+ * {@link ConverterInfo#parse(String)} and {@link ConverterInfo#with(walkingkooka.net.AbsoluteUrl, ConverterName)} return
+ * these instances whenever an equal {@link ConverterInfo} is created, so the many filtered or unmarshalled
+ * {@link ConverterInfoSet} share their elements rather than each holding a copy of every url and name.
+ * <br>
+ * Each shared {@link ConverterInfo} is only created the first time an equal {@link ConverterInfo} is interned, so
+ * creating an unrelated {@link ConverterInfo} never builds any url.
+ */
+final class ConverterInfoBuiltins {
+
+    /**
+     * Returns the shared {@link ConverterInfo} if one is equal, otherwise returns the given {@link ConverterInfo}.
+     */
+    static ConverterInfo intern(final ConverterInfo info) {
+        final ConverterName name = info.name();
+
+        ConverterInfo interned = info;
+        if (ConverterName.NAME_TO_FACTORY.containsKey(name)) {
+            final ConverterInfo builtin = builtin(name);
+            if (builtin.equals(info)) {
+                interned = builtin;
+            }
+        }
+        return interned;
+    }
+
+    /**
+     * Returns true if the given {@link ConverterInfo} is a shared instance, without creating any.
+     */
+    static boolean isShared(final ConverterInfo info) {
+        return info == NAME_TO_INFO.get(info.name());
+    }
+
+    /**
+     * All the shared {@link ConverterInfo}.
+     */
+    static List<ConverterInfo> infos() {
+        final List<ConverterInfo> infos = Lists.array();
+
+        for (final ConverterName name : ConverterName.NAME_TO_FACTORY.keySet()) {
+            infos.add(
+                builtin(name)
+            );
+        }
+        return infos;
+    }
+
+    /**
+     * Gets or creates the shared {@link ConverterInfo} for a supported {@link ConverterName}. Racing threads may both
+     * create one, but only the first is kept.
+     */
+    private static ConverterInfo builtin(final ConverterName name) {
+        final Map<ConverterName, ConverterInfo> nameToInfo = NAME_TO_INFO;
+
+        ConverterInfo info = nameToInfo.get(name);
+        if (null == info) {
+            final ConverterInfo created = nameToConverterInfo(name);
+            info = nameToInfo.putIfAbsent(
+                name,
+                created
+            );
+            if (null == info) {
+                info = created;
+            }
+        }
+        return info;
+    }
+
+    /**
+     * Creates the {@link ConverterInfo} by appending the name to the base path, avoiding parsing a path for each name.
+     * {@link ConverterInfo#builtin(walkingkooka.net.AbsoluteUrl, ConverterName)} is used to avoid interning the result.
+     */
+    private static ConverterInfo nameToConverterInfo(final ConverterName name) {
+        final AbsoluteUrl base = ConverterProviders.BASE_URL;
+
+        return ConverterInfo.builtin(
+            base.setPath(
+                base.path()
+                    .append(
+                        UrlPathName.with(
+                            name.value()
+                        )
+                    )
+            ),
+            name
+        );
+    }
+
+    private final static Map<ConverterName, ConverterInfo> NAME_TO_INFO = Maps.concurrent();
+
+    /**
+     * Stop creation
+     */
+    private ConverterInfoBuiltins() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -19,6 +19,7 @@ package walkingkooka.convert.provider;
 
 import walkingkooka.collect.set.ImmutableSet;
 import walkingkooka.collect.set.Sets;
+import walkingkooka.collect.set.SortedSets;
 import walkingkooka.net.AbsoluteUrl;
 import walkingkooka.plugin.PluginInfoSet;
 import walkingkooka.plugin.PluginInfoSetLike;
@@ -33,10 +34,14 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.function.Predicate;
 
 /**
  * A read only {@link Set} of {@link ConverterInfo} sorted by {@link ConverterName}.
+ * <br>
+ * Operations that change nothing return this set. Operations that do change it copy every element into a new
+ * {@link PluginInfoSet} in O(n), elements are not structurally shared between versions.
  */
 public final class ConverterInfoSet extends AbstractSet<ConverterInfo> implements PluginInfoSetLike<ConverterName, ConverterInfo, ConverterInfoSet, ConverterSelector, ConverterAlias, ConverterAliasSet> {
 
@@ -55,6 +60,46 @@ public final class ConverterInfoSet extends AbstractSet<ConverterInfo> implement
         );
     }
 
+    /**
+     * Parses the text one {@link ConverterInfo} at a time without first copying it to a {@link String}, which suits
+     * very large texts such as a memory mapped {@link java.nio.CharBuffer}. If any entry is invalid the whole text is
+     * parsed by {@link #parse(String)} so errors are reported with the same text and position.
+     */
+    public static ConverterInfoSet parse(final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        ConverterInfoSet infos;
+        try {
+            final SortedSet<ConverterInfo> parsed = SortedSets.tree();
+            int count = 0;
+
+            final ConverterTextEntryIterator entries = ConverterTextEntryIterator.with(text);
+            while (entries.hasNext()) {
+                parsed.add(
+                    ConverterInfo.parse(
+                        entries.next()
+                    )
+                );
+                count++;
+            }
+
+            infos = with(parsed);
+
+            // duplicates were dropped by the SortedSet, or a name appears with different urls
+            if (infos.size() != count || infos.names().size() != count) {
+                infos = null;
+            }
+        } catch (final RuntimeException invalid) {
+            infos = null;
+        }
+
+        return null != infos ?
+            infos :
+            parse(
+                text.toString()
+            );
+    }
+
     public static ConverterInfoSet with(final Set<ConverterInfo> infos) {
         Objects.requireNonNull(infos, "infos");
 
@@ -66,6 +111,8 @@ public final class ConverterInfoSet extends AbstractSet<ConverterInfo> implement
 
     private ConverterInfoSet(final PluginInfoSet<ConverterName, ConverterInfo> pluginInfoSet) {
         this.pluginInfoSet = pluginInfoSet;
+        this.contentHash = ConverterContentHash.hash(pluginInfoSet);
+        this.hashCode = pluginInfoSet.hashCode();
     }
 
     // PluginInfoSetLike................................................................................................
@@ -95,58 +142,120 @@ public final class ConverterInfoSet extends AbstractSet<ConverterInfo> implement
     }
 
     @Override
-    public ConverterInfoSet renameIfPresent(ConverterInfoSet renameInfos) {
-        return this.setElements(
-            this.pluginInfoSet.renameIfPresent(
-                renameInfos.pluginInfoSet
-            )
-        );
+    public ConverterInfoSet renameIfPresent(final ConverterInfoSet renameInfos) {
+        Objects.requireNonNull(renameInfos, "renameInfos");
+
+        return renameInfos.isEmpty() ?
+            this :
+            this.setElements(
+                this.pluginInfoSet.renameIfPresent(
+                    renameInfos.pluginInfoSet
+                )
+            );
     }
 
     @Override
     public ConverterInfoSet concat(final ConverterInfo info) {
-        return this.setElements(
-            this.pluginInfoSet.concat(info)
-        );
+        Objects.requireNonNull(info, "info");
+
+        return this.containsEqual(info) ?
+            this :
+            this.setElements(
+                this.pluginInfoSet.concat(info)
+            );
     }
 
     @Override
     public ConverterInfoSet concatAll(final Collection<ConverterInfo> infos) {
-        return this.setElements(
-            this.pluginInfoSet.concatAll(infos)
-        );
+        Objects.requireNonNull(infos, "infos");
+
+        return this.containsAllEqual(infos) ?
+            this :
+            this.setElements(
+                this.pluginInfoSet.concatAll(infos)
+            );
+    }
+
+    /**
+     * The {@link PluginInfoSet} may find an info by name alone, so a match is confirmed using
+     * {@link ConverterInfo#equals(Object)}, otherwise a same named info with a different url would be mistaken for an
+     * element and dropped.
+     */
+    private boolean containsEqual(final ConverterInfo info) {
+        return this.pluginInfoSet.contains(info) &&
+            this.pluginInfoSet.stream()
+                .anyMatch(info::equals);
+    }
+
+    private boolean containsAllEqual(final Collection<ConverterInfo> infos) {
+        boolean contains = this.pluginInfoSet.containsAll(infos);
+
+        if (contains) {
+            final Set<ConverterInfo> elements = Sets.hash();
+            elements.addAll(this);
+            contains = elements.containsAll(infos);
+        }
+
+        return contains;
     }
 
     @Override
     public ConverterInfoSet delete(final ConverterInfo info) {
-        return this.setElements(
-            this.pluginInfoSet.delete(info)
-        );
+        Objects.requireNonNull(info, "info");
+
+        return this.pluginInfoSet.contains(info) ?
+            this.setElements(
+                this.pluginInfoSet.delete(info)
+            ) :
+            this;
     }
 
     @Override
     public ConverterInfoSet deleteAll(final Collection<ConverterInfo> infos) {
-        return this.setElements(
-            this.pluginInfoSet.deleteAll(infos)
-        );
+        Objects.requireNonNull(infos, "infos");
+
+        boolean contains = false;
+        for (final ConverterInfo info : infos) {
+            if (this.pluginInfoSet.contains(info)) {
+                contains = true;
+                break;
+            }
+        }
+
+        return contains ?
+            this.setElements(
+                this.pluginInfoSet.deleteAll(infos)
+            ) :
+            this;
     }
 
     @Override
     public ConverterInfoSet deleteIf(final Predicate<? super ConverterInfo> predicate) {
-        return this.setElements(
-            this.pluginInfoSet.deleteIf(predicate)
-        );
+        Objects.requireNonNull(predicate, "predicate");
+
+        // the predicate is only tested once per element, deleting only removes so an equal size means nothing matched
+        final PluginInfoSet<ConverterName, ConverterInfo> deleted = this.pluginInfoSet.deleteIf(predicate);
+        return deleted.size() == this.size() ?
+            this :
+            deleted.isEmpty() ?
+                EMPTY :
+                new ConverterInfoSet(deleted);
     }
 
     @Override
     public ConverterInfoSet replace(final ConverterInfo oldInfo,
                                     final ConverterInfo newInfo) {
-        return this.setElements(
-            this.pluginInfoSet.replace(
-                oldInfo,
-                newInfo
-            )
-        );
+        Objects.requireNonNull(oldInfo, "oldInfo");
+        Objects.requireNonNull(newInfo, "newInfo");
+
+        return oldInfo.equals(newInfo) ?
+            this :
+            this.setElements(
+                this.pluginInfoSet.replace(
+                    oldInfo,
+                    newInfo
+                )
+            );
     }
 
     @Override
@@ -160,12 +269,22 @@ public final class ConverterInfoSet extends AbstractSet<ConverterInfo> implement
 
     @Override
     public ConverterInfoSet setElements(final Collection<ConverterInfo> infos) {
-        final ConverterInfoSet after = new ConverterInfoSet(
-            this.pluginInfoSet.setElements(infos)
-        );
-        return this.pluginInfoSet.equals(infos) ?
-            this :
-            after;
+        final ConverterInfoSet set;
+
+        if (infos instanceof ConverterInfoSet) {
+            // already immutable, share rather than copy
+            set = this.equals(infos) ?
+                this :
+                (ConverterInfoSet) infos;
+        } else {
+            set = this.pluginInfoSet.equals(infos) ?
+                this :
+                new ConverterInfoSet(
+                    this.pluginInfoSet.setElements(infos)
+                );
+        }
+
+        return set;
     }
 
     @Override
@@ -206,6 +325,45 @@ public final class ConverterInfoSet extends AbstractSet<ConverterInfo> implement
 
     private final PluginInfoSet<ConverterName, ConverterInfo> pluginInfoSet;
 
+    // Object...........................................................................................................
+
+    /**
+     * A 64-bit hash of the content computed once at construction. Equal sets always have equal content hashes.
+     */
+    public long contentHash() {
+        return this.contentHash;
+    }
+
+    private final long contentHash;
+
+    /**
+     * The {@link java.util.Set#hashCode()} computed once at construction.
+     */
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    private final int hashCode;
+
+    /**
+     * Compares the content hashes first when comparing with another {@link ConverterInfoSet}, only comparing elements when
+     * they match, otherwise follows the {@link java.util.Set#equals(Object)} contract.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof ConverterInfoSet ?
+                this.equals0((ConverterInfoSet) other) :
+                super.equals(other));
+    }
+
+    private boolean equals0(final ConverterInfoSet other) {
+        return this.contentHash == other.contentHash &&
+            this.hashCode == other.hashCode &&
+            super.equals(other);
+    }
+
     // json.............................................................................................................
 
     private JsonNode marshall(final JsonNodeMarshallContext context) {
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable snapshot of the counters recorded for a single {@link ConverterName}.
+ * The histogram bucket at index i counts the durations where floor(log2(nanos)) == i.
+ */
+public final class ConverterMetric {
+
+    static ConverterMetric with(final long count,
+                                final long failureCount,
+                                final long totalNanos,
+                                final long[] histogram) {
+        return new ConverterMetric(
+            count,
+            failureCount,
+            totalNanos,
+            Objects.requireNonNull(histogram, "histogram")
+        );
+    }
+
+    private ConverterMetric(final long count,
+                            final long failureCount,
+                            final long totalNanos,
+                            final long[] histogram) {
+        this.count = count;
+        this.failureCount = failureCount;
+        this.totalNanos = totalNanos;
+        this.histogram = histogram;
+    }
+
+    /**
+     * The total number of recorded calls including failures.
+     */
+    public long count() {
+        return this.count;
+    }
+
+    private final long count;
+
+    /**
+     * The number of calls that failed with an exception.
+     */
+    public long failureCount() {
+        return this.failureCount;
+    }
+
+    private final long failureCount;
+
+    /**
+     * The sum of all recorded durations in nanos.
+     */
+    public long totalNanos() {
+        return this.totalNanos;
+    }
+
+    private final long totalNanos;
+
+    /**
+     * The average duration in nanos, or zero when nothing was recorded.
+     */
+    public long meanNanos() {
+        final long count = this.count;
+        return 0 == count ?
+            0 :
+            this.totalNanos / count;
+    }
+
+    /**
+     * Returns a copy of the log2 latency histogram.
+     */
+    public long[] histogram() {
+        return this.histogram.clone();
+    }
+
+    private final long[] histogram;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.count,
+            this.failureCount,
+            this.totalNanos
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ConverterMetric &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ConverterMetric other) {
+        return this.count == other.count &&
+            this.failureCount == other.failureCount &&
+            this.totalNanos == other.totalNanos &&
+            Arrays.equals(this.histogram, other.histogram);
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + this.count +
+            " failures=" + this.failureCount +
+            " totalNanos=" + this.totalNanos +
+            " histogram=" + Arrays.toString(this.histogram);
+    }
+}
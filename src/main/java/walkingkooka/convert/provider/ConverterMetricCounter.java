@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+/**
+ * Lock free counters for a single {@link ConverterName}, holding a count, failure count, total nanos and a log2 latency
+ * histogram. Every counter including each histogram bucket is a {@link ConverterStripedLong}. The first stripe comes
+ * from the low bits of the start time, and a stripe that loses a compare and set to another thread is skipped, so
+ * recording threads rarely contend even when the clock is coarse.
+ */
+final class ConverterMetricCounter {
+
+    /**
+     * Bucket i holds durations where floor(log2(nanos)) == i, the last bucket also holds all larger durations.
+     */
+    final static int HISTOGRAM_BUCKETS = 40;
+
+    static ConverterMetricCounter empty() {
+        return new ConverterMetricCounter();
+    }
+
+    private ConverterMetricCounter() {
+        final ConverterStripedLong[] histogram = new ConverterStripedLong[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            histogram[i] = ConverterStripedLong.empty();
+        }
+        this.histogram = histogram;
+    }
+
+    void record(final long start,
+                final long end,
+                final boolean success) {
+        final long elapsed = Math.max(
+            0,
+            end - start
+        );
+
+        int stripe = this.counts.add(
+            (int) (start ^ (start >>> 7)),
+            1
+        );
+        if (false == success) {
+            stripe = this.failures.add(
+                stripe,
+                1
+            );
+        }
+        stripe = this.nanos.add(
+            stripe,
+            elapsed
+        );
+        this.histogram[bucket(elapsed)].add(
+            stripe,
+            1
+        );
+    }
+
+    // @VisibleForTesting
+    static int bucket(final long nanos) {
+        return nanos <= 0 ?
+            0 :
+            Math.min(
+                63 - Long.numberOfLeadingZeros(nanos),
+                HISTOGRAM_BUCKETS - 1
+            );
+    }
+
+    /**
+     * Sums all counters into an immutable {@link ConverterMetric}. Concurrent updates may or may not be included.
+     */
+    ConverterMetric metric() {
+        final long[] histogram = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            histogram[i] = this.histogram[i].sum();
+        }
+
+        return ConverterMetric.with(
+            this.counts.sum(),
+            this.failures.sum(),
+            this.nanos.sum(),
+            histogram
+        );
+    }
+
+    private final ConverterStripedLong counts = ConverterStripedLong.empty();
+
+    private final ConverterStripedLong failures = ConverterStripedLong.empty();
+
+    private final ConverterStripedLong nanos = ConverterStripedLong.empty();
+
+    private final ConverterStripedLong[] histogram;
+
+    @Override
+    public String toString() {
+        return this.metric()
+            .toString();
+    }
+}
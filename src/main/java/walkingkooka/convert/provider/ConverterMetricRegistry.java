@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.collect.map.Maps;
+import walkingkooka.convert.Converter;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+
+/**
+ * Holds counters for each {@link ConverterName} recording the number of {@link Converter} resolutions, failures and
+ * a latency histogram. Recording is lock free, and {@link #snapshot()} may be called at any time to dump the current
+ * numbers.
+ */
+public final class ConverterMetricRegistry {
+
+    public static ConverterMetricRegistry create() {
+        return new ConverterMetricRegistry();
+    }
+
+    private ConverterMetricRegistry() {
+        super();
+    }
+
+    /**
+     * Records a single call for the given {@link ConverterName}, with the start and end given by {@link System#nanoTime()}.
+     */
+    void record(final ConverterName name,
+                final long start,
+                final long end,
+                final boolean success) {
+        this.counter(name)
+            .record(
+                start,
+                end,
+                success
+            );
+    }
+
+    private ConverterMetricCounter counter(final ConverterName name) {
+        final Map<ConverterName, ConverterMetricCounter> counters = this.counters;
+
+        ConverterMetricCounter counter = counters.get(name);
+        if (null == counter) {
+            final ConverterMetricCounter created = ConverterMetricCounter.empty();
+            counter = counters.putIfAbsent(
+                name,
+                created
+            );
+            if (null == counter) {
+                counter = created;
+            }
+        }
+        return counter;
+    }
+
+    /**
+     * Returns the {@link ConverterMetric} for the given {@link ConverterName} if any were recorded.
+     */
+    public ConverterMetric metric(final ConverterName name) {
+        Objects.requireNonNull(name, "name");
+
+        final ConverterMetricCounter counter = this.counters.get(name);
+        return null == counter ?
+            EMPTY :
+            counter.metric();
+    }
+
+    private final static ConverterMetric EMPTY = ConverterMetric.with(
+        0,
+        0,
+        0,
+        new long[ConverterMetricCounter.HISTOGRAM_BUCKETS]
+    );
+
+    /**
+     * Returns a read only snapshot of all recorded {@link ConverterMetric} sorted by {@link ConverterName}.
+     */
+    public Map<ConverterName, ConverterMetric> snapshot() {
+        final SortedMap<ConverterName, ConverterMetric> snapshot = Maps.sorted();
+
+        for (final Map.Entry<ConverterName, ConverterMetricCounter> nameAndCounter : this.counters.entrySet()) {
+            snapshot.put(
+                nameAndCounter.getKey(),
+                nameAndCounter.getValue()
+                    .metric()
+            );
+        }
+
+        return Maps.readOnly(snapshot);
+    }
+
+    /**
+     * The number of {@link ConverterName} with a counter.
+     */
+    int size() {
+        return this.counters.size();
+    }
+
+    private final Map<ConverterName, ConverterMetricCounter> counters = Maps.concurrent();
+
+    @Override
+    public String toString() {
+        return this.snapshot()
+            .toString();
+    }
+}
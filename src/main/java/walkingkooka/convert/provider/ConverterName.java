@@ -84,11 +84,18 @@ final public class ConverterName implements PluginNameLike<ConverterName> {
 
     private static ConverterName registerConstantName(final String name,
                                                       final Function<List<?>, Converter<?>> factory) {
-        final ConverterName converterName = new ConverterName(name);
+        final ConverterName converterName = new ConverterName(
+            name,
+            STRING_TO_NAME.size() // dense ordinal
+        );
         NAME_TO_FACTORY.put(
             converterName,
             factory
         );
+        STRING_TO_NAME.put(
+            name,
+            converterName
+        );
         return converterName;
     }
 
@@ -97,6 +104,12 @@ final public class ConverterName implements PluginNameLike<ConverterName> {
      */
     final static Map<ConverterName, Function<List<?>, Converter<?>>> NAME_TO_FACTORY = Maps.sorted();
 
+    /**
+     * Used by {@link #with(String)} to return constants, populated by the same {@link #registerConstantName(String, Function)}
+     * as {@link #NAME_TO_FACTORY} so the two can never drift apart.
+     */
+    private final static Map<String, ConverterName> STRING_TO_NAME = Maps.hash();
+
     private final static String BINARY_TO_STRING_STRING = "binary-to-string";
 
     /**
@@ -879,254 +892,35 @@ final public class ConverterName implements PluginNameLike<ConverterName> {
     public static ConverterName with(final String name) {
         Objects.requireNonNull(name, "name");
 
-        final ConverterName converterName;
-
-        switch (name) {
-            case BINARY_TO_STRING_STRING:
-                converterName = BINARY_TO_STRING;
-                break;
-            case BOOLEAN_TO_NUMBER_STRING:
-                converterName = BOOLEAN_TO_NUMBER;
-                break;
-            case CHARACTER_OR_STRING_TO_STRING_STRING:
-                converterName = CHARACTER_OR_STRING_TO_STRING;
-                break;
-            case CHARACTER_OR_CHAR_SEQUENCE_OR_HAS_TEXT_OR_STRING_TO_CHAR_SEQUENCE_OR_STRING_STRING:
-                converterName = CHARACTER_OR_CHAR_SEQUENCE_OR_HAS_TEXT_OR_STRING_TO_CHAR_SEQUENCE_OR_STRING;
-                break;
-            case CHAIN_STRING:
-                converterName = CHAIN;
-                break;
-            case COLLECTION_STRING:
-                converterName = COLLECTION;
-                break;
-            case COLLECTION_TO_LIST_STRING:
-                converterName = COLLECTION_TO_LIST;
-                break;
-            case CURRENCY_CODE_TO_CURRENCY_STRING:
-                converterName = CURRENCY_CODE_TO_CURRENCY;
-                break;
-            case CURRENCY_VALUE_TO_NUMBER_STRING:
-                converterName = CURRENCY_VALUE_TO_NUMBER;
-                break;
-            case CURRENCY_VALUE_TO_STRING:
-                converterName = CURRENCY_VALUE_TO;
-                break;
-            case CUSTOM_TO_STRING_STRING:
-                converterName = CUSTOM_TO_STRING;
-                break;
-            case LOCAL_DATE_TIME_TO_LOCAL_DATE_STRING:
-                converterName = LOCAL_DATE_TIME_TO_LOCAL_DATE;
-                break;
-            case LOCAL_DATE_TIME_TO_LOCAL_TIME_STRING:
-                converterName = LOCAL_DATE_TIME_TO_LOCAL_TIME;
-                break;
-            case LOCAL_DATE_TIME_TO_NUMBER_STRING:
-                converterName = LOCAL_DATE_TIME_TO_NUMBER;
-                break;
-            case LOCAL_DATE_TIME_TO_STRING_STRING:
-                converterName = LOCAL_DATE_TIME_TO_STRING;
-                break;
-            case LOCAL_DATE_TO_LOCAL_DATE_TIME_STRING:
-                converterName = LOCAL_DATE_TO_LOCAL_DATE_TIME;
-                break;
-            case LOCAL_DATE_TO_NUMBER_STRING:
-                converterName = LOCAL_DATE_TO_NUMBER;
-                break;
-            case LOCAL_DATE_TO_STRING_STRING:
-                converterName = LOCAL_DATE_TO_STRING;
-                break;
-            case LOCAL_TIME_TO_LOCAL_DATE_TIME_STRING:
-                converterName = LOCAL_TIME_TO_LOCAL_DATE_TIME;
-                break;
-            case LOCAL_TIME_TO_NUMBER_STRING:
-                converterName = LOCAL_TIME_TO_NUMBER;
-                break;
-            case LOCAL_TIME_TO_STRING_STRING:
-                converterName = LOCAL_TIME_TO_STRING;
-                break;
-            case LOCALE_TO_DATE_TIME_SYMBOLS_STRING:
-                converterName = LOCALE_TO_DATE_TIME_SYMBOLS;
-                break;
-            case LOCALE_TO_DECIMAL_NUMBER_SYMBOLS_STRING:
-                converterName = LOCALE_TO_DECIMAL_NUMBER_SYMBOLS;
-                break;
-            case LOCALE_TO_STRING_STRING:
-                converterName = LOCALE_TO_STRING;
-                break;
-            case MAPPER_STRING:
-                converterName = MAPPER;
-                break;
-            case NEVER_STRING:
-                converterName = NEVER;
-                break;
-            case NUMBER_TO_BOOLEAN_STRING:
-                converterName = NUMBER_TO_BOOLEAN;
-                break;
-            case NUMBER_TO_CURRENCY_VALUE_STRING:
-                converterName = NUMBER_TO_CURRENCY_VALUE;
-                break;
-            case NUMBER_TO_LOCAL_DATE_STRING:
-                converterName = NUMBER_TO_LOCAL_DATE;
-                break;
-            case NUMBER_TO_LOCAL_DATE_TIME_STRING:
-                converterName = NUMBER_TO_LOCAL_DATE_TIME;
-                break;
-            case NUMBER_TO_LOCAL_TIME_STRING:
-                converterName = NUMBER_TO_LOCAL_TIME;
-                break;
-            case NUMBER_TO_NUMBER_STRING:
-                converterName = NUMBER_TO_NUMBER;
-                break;
-            case NUMBER_TO_STRING_STRING:
-                converterName = NUMBER_TO_STRING;
-                break;
-            case OBJECT_STRING:
-                converterName = OBJECT;
-                break;
-            case OBJECT_TO_STRING_STRING:
-                converterName = OBJECT_TO_STRING;
-                break;
-            case OPTIONAL_TO_STRING:
-                converterName = OPTIONAL_TO;
-                break;
-            case PARSER_STRING:
-                converterName = PARSER;
-                break;
-            case PROPERTIES_TO_DATE_TIME_SYMBOLS_STRING:
-                converterName = PROPERTIES_TO_DATE_TIME_SYMBOLS;
-                break;
-            case PROPERTIES_TO_DECIMAL_NUMBER_SYMBOLS_STRING:
-                converterName = PROPERTIES_TO_DECIMAL_NUMBER_SYMBOLS;
-                break;
-            case SIMPLE_STRING:
-                converterName = SIMPLE;
-                break;
-            case STRING_TO_CHARACTER_OR_STRING_STRING:
-                converterName = STRING_TO_CHARACTER_OR_STRING;
-                break;
-            case TEXT_TO_BOOLEAN_LIST_STRING:
-                converterName = TEXT_TO_BOOLEAN_LIST;
-                break;
-            case TEXT_TO_BINARY_STRING:
-                converterName = TEXT_TO_BINARY;
-                break;
-            case TEXT_TO_CHARSET_STRING:
-                converterName = TEXT_TO_CHARSET;
-                break;
-            case TEXT_TO_CSV_STRING_LIST_STRING:
-                converterName = TEXT_TO_CSV_STRING_LIST;
-                break;
-            case TEXT_TO_CSV_STRING_SET_STRING:
-                converterName = TEXT_TO_CSV_STRING_SET;
-                break;
-            case TEXT_TO_CURRENCY_STRING:
-                converterName = TEXT_TO_CURRENCY;
-                break;
-            case TEXT_TO_CURRENCY_CODE_STRING:
-                converterName = TEXT_TO_CURRENCY_CODE;
-                break;
-            case TEXT_TO_CURRENCY_CODE_SET_STRING:
-                converterName = TEXT_TO_CURRENCY_CODE_SET;
-                break;
-            case TEXT_TO_CURRENCY_VALUE_STRING:
-                converterName = TEXT_TO_CURRENCY_VALUE;
-                break;
-            case TEXT_TO_INDENTATION_STRING:
-                converterName = TEXT_TO_INDENTATION;
-                break;
-            case TEXT_TO_LINE_ENDING_STRING:
-                converterName = TEXT_TO_LINE_ENDING;
-                break;
-            case TEXT_TO_LOCAL_DATE_LIST_STRING:
-                converterName = TEXT_TO_LOCAL_DATE_LIST;
-                break;
-            case TEXT_TO_LOCAL_DATE_STRING:
-                converterName = TEXT_TO_LOCAL_DATE;
-                break;
-            case TEXT_TO_LOCAL_DATE_TIME_LIST_STRING:
-                converterName = TEXT_TO_LOCAL_DATE_TIME_LIST;
-                break;
-            case TEXT_TO_LOCAL_DATE_TIME_STRING:
-                converterName = TEXT_TO_LOCAL_DATE_TIME;
-                break;
-            case TEXT_TO_LOCAL_TIME_LIST_STRING:
-                converterName = TEXT_TO_LOCAL_TIME_LIST;
-                break;
-            case TEXT_TO_LOCAL_TIME_STRING:
-                converterName = TEXT_TO_LOCAL_TIME;
-                break;
-            case TEXT_TO_LOCALE_STRING:
-                converterName = TEXT_TO_LOCALE;
-                break;
-            case TEXT_TO_LOCALE_LANGUAGE_TAG_STRING:
-                converterName = TEXT_TO_LOCALE_LANGUAGE_TAG;
-                break;
-            case TEXT_TO_LOCALE_LANGUAGE_TAG_SET_STRING:
-                converterName = TEXT_TO_LOCALE_LANGUAGE_TAG_SET;
-                break;
-            case TEXT_TO_NUMBER_STRING:
-                converterName = TEXT_TO_NUMBER;
-                break;
-            case TEXT_TO_NUMBER_LIST_STRING:
-                converterName = TEXT_TO_NUMBER_LIST;
-                break;
-            case TEXT_TO_PROPERTIES_STRING:
-                converterName = TEXT_TO_PROPERTIES;
-                break;
-            case TEXT_TO_STRING_LIST_STRING:
-                converterName = TEXT_TO_STRING_LIST;
-                break;
-            case TEXT_TO_TSV_STRING_LIST_STRING:
-                converterName = TEXT_TO_TSV_STRING_LIST;
-                break;
-            case TEXT_TO_TSV_STRING_SET_STRING:
-                converterName = TEXT_TO_TSV_STRING_SET;
-                break;
-            case TEXT_TO_ZONE_OFFSET_STRING:
-                converterName = TEXT_TO_ZONE_OFFSET;
-                break;
-            case TO_BINARY_STRING:
-                converterName = TO_BINARY;
-                break;
-            case TO_BOOLEAN_STRING:
-                converterName = TO_BOOLEAN;
-                break;
-            case TO_DATE_TIME_SYMBOLS_STRING:
-                converterName = TO_DATE_TIME_SYMBOLS;
-                break;
-            case TO_DECIMAL_NUMBER_SYMBOLS_STRING:
-                converterName = TO_DECIMAL_NUMBER_SYMBOLS;
-                break;
-            case TO_LOCALE_STRING:
-                converterName = TO_LOCALE;
-                break;
-            case TO_LOCALE_LANGUAGE_TAG_STRING:
-                converterName = TO_LOCALE_LANGUAGE_TAG;
-                break;
-            case TO_PROPERTIES_STRING:
-                converterName = TO_PROPERTIES;
-                break;
-            case TO_TEXT_STRING:
-                converterName = TO_TEXT;
-                break;
-            case TO_VALUE_STRING:
-                converterName = TO_VALUE;
-                break;
-            default:
-                converterName = new ConverterName(name);
-                break;
-        }
+        final ConverterName converterName = STRING_TO_NAME.get(name);
+        return null != converterName ?
+            converterName :
+            new ConverterName(
+                name,
+                NOT_CONSTANT
+            );
+    }
 
-        return converterName;
+    /**
+     * The {@link #ordinal()} of a {@link ConverterName} that is not one of the constants.
+     */
+    final static int NOT_CONSTANT = -1;
+
+    /**
+     * The number of constants, each constant has an {@link #ordinal()} less than this count.
+     */
+    static int constantCount() {
+        return STRING_TO_NAME.size();
     }
 
     /**
      * Private constructor
      */
-    private ConverterName(final String name) {
+    private ConverterName(final String name,
+                          final int ordinal) {
         super();
         this.name = PluginName.with(name);
+        this.ordinal = ordinal;
     }
 
     @Override
@@ -1136,6 +930,15 @@ final public class ConverterName implements PluginNameLike<ConverterName> {
 
     private final PluginName name;
 
+    /**
+     * A dense index for constants starting at zero in registration order, or {@link #NOT_CONSTANT}.
+     */
+    int ordinal() {
+        return this.ordinal;
+    }
+
+    private final int ordinal;
+
     // Object..................................................................................................
 
     @Override
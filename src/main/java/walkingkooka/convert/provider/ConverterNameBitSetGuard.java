@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import java.util.Set;
+
+/**
+ * A guard used by {@link FilteredConverterProvider} when all the allowed {@link ConverterName} are constants. Membership
+ * is a single bit test using the {@link ConverterName#ordinal()}, and the allowed names take a few words rather than a
+ * hash set.
+ */
+final class ConverterNameBitSetGuard {
+
+    /**
+     * Returns a {@link ConverterNameBitSetGuard} if all the names are constants otherwise returns null.
+     */
+    static ConverterNameBitSetGuard tryWith(final Set<ConverterName> names) {
+        final long[] bits = new long[(ConverterName.constantCount() + 63) >> 6];
+
+        boolean constants = true;
+        for (final ConverterName name : names) {
+            final int ordinal = name.ordinal();
+            if (ConverterName.NOT_CONSTANT == ordinal) {
+                constants = false;
+                break;
+            }
+            bits[ordinal >> 6] |= 1L << ordinal;
+        }
+
+        return constants ?
+            new ConverterNameBitSetGuard(bits) :
+            null;
+    }
+
+    private ConverterNameBitSetGuard(final long[] bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Returns the {@link ConverterName} if it is allowed, otherwise throws the same exception as
+     * {@link walkingkooka.plugin.FilteredProviderGuard} using {@link ConverterPluginHelper#unknownName()}.
+     */
+    ConverterName name(final ConverterName name) {
+        if (false == this.test(name)) {
+            throw ConverterPluginHelper.INSTANCE.unknownName()
+                .apply(name);
+        }
+        return name;
+    }
+
+    boolean test(final ConverterName name) {
+        final int ordinal = name.ordinal();
+
+        // ConverterName.NOT_CONSTANT is never allowed
+        return ordinal >= 0 &&
+            0 != (this.bits[ordinal >> 6] & (1L << ordinal));
+    }
+
+    /**
+     * The estimated size in bytes, used by {@link ConverterProviderFootprint}.
+     */
+    long bytes() {
+        return ConverterProviderFootprint.OBJECT * 2 + 8L * this.bits.length;
+    }
+
+    /**
+     * Allowed constants have their {@link ConverterName#ordinal()} bit set.
+     */
+    private final long[] bits;
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+
+        String separator = "";
+        for (final ConverterName name : ConverterName.NAME_TO_FACTORY.keySet()) {
+            if (this.test(name)) {
+                b.append(separator)
+                    .append(name);
+                separator = ", ";
+            }
+        }
+        return b.toString();
+    }
+}
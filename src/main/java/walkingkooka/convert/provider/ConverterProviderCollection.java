@@ -31,7 +31,8 @@ import java.util.Set;
 /**
  * A {@link ConverterProvider} view of a collection of {@link ConverterProvider providers}.
  */
-final class ConverterProviderCollection implements ConverterProvider {
+final class ConverterProviderCollection implements ConverterProvider,
+    HasConverterProviderFootprint {
 
     static <C extends ConverterContext> ConverterProviderCollection with(final Set<ConverterProvider> providers) {
         return new ConverterProviderCollection(
@@ -40,6 +41,7 @@ final class ConverterProviderCollection implements ConverterProvider {
     }
 
     private ConverterProviderCollection(final Set<ConverterProvider> providers) {
+        this.converterProviders = providers;
         this.providers = ProviderCollection.with(
             new ProviderCollectionProviderGetter<>() {
                 @Override
@@ -84,6 +86,30 @@ final class ConverterProviderCollection implements ConverterProvider {
     public <C extends ConverterContext> Converter<C> converter(final ConverterName name,
                                                                final List<?> values,
                                                                final ProviderContext context) {
+        final ConverterEventListener listener = ConverterEvents.listener();
+        return null == listener ?
+            this.converter0(
+                name,
+                values,
+                context
+            ) :
+            ConverterEvents.record(
+                listener,
+                ConverterEventKind.COLLECTION_CONVERTER,
+                String.valueOf(name),
+                name,
+                false, // cacheHit
+                () -> this.<C>converter0(
+                    name,
+                    values,
+                    context
+                )
+            );
+    }
+
+    private <C extends ConverterContext> Converter<C> converter0(final ConverterName name,
+                                                                final List<?> values,
+                                                                final ProviderContext context) {
         return Cast.to(
             this.providers.get(
                 name,
@@ -102,6 +128,26 @@ final class ConverterProviderCollection implements ConverterProvider {
 
     private final ProviderCollection<ConverterProvider, ConverterName, ConverterInfo, ConverterSelector, Converter<?>> providers;
 
+    /**
+     * The wrapped {@link ConverterProvider}, only used to report a {@link ConverterProviderFootprint}.
+     */
+    private final Set<ConverterProvider> converterProviders;
+
+    // HasConverterProviderFootprint....................................................................................
+
+    @Override
+    public ConverterProviderFootprint converterProviderFootprint() {
+        final Set<ConverterProvider> providers = this.converterProviders;
+
+        return ConverterProviderFootprint.with(
+            this,
+            providers.size(),
+            ConverterProviderFootprint.OBJECT * 2 +
+                ConverterProviderFootprint.entries(providers.size()),
+            providers.toArray(new ConverterProvider[0])
+        );
+    }
+
     @Override
     public String toString() {
         return this.providers.toString();
@@ -23,7 +23,8 @@ import walkingkooka.plugin.ProviderContext;
 
 import java.util.List;
 
-public interface ConverterProviderDelegator extends ConverterProvider {
+public interface ConverterProviderDelegator extends ConverterProvider,
+    HasConverterProviderFootprint {
     @Override
     default <C extends ConverterContext> Converter<C> converter(final ConverterSelector selector,
                                                                 final ProviderContext context) {
@@ -52,5 +53,15 @@ public interface ConverterProviderDelegator extends ConverterProvider {
             .converterInfos();
     }
 
+    @Override
+    default ConverterProviderFootprint converterProviderFootprint() {
+        return ConverterProviderFootprint.with(
+            this,
+            0,
+            ConverterProviderFootprint.OBJECT,
+            this.converterProvider()
+        );
+    }
+
     ConverterProvider converterProvider();
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.collect.set.Sets;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Discovers {@link ConverterProvider} implementations using {@link ServiceLoader}, returning them as a single
+ * collection {@link ConverterProvider}. Both <code>META-INF/services</code> files and module <code>provides</code>
+ * clauses are honoured, along with static <code>provider()</code> factory methods in modules.
+ * <br>
+ * Providers listed in an {@link #INDEX_RESOURCE} have their class loaded by {@link ServiceLoader} but are neither
+ * initialized nor instantiated until one of their names is first resolved, their {@link ConverterInfoSet} is read from
+ * the index. When such a provider is created its {@link ConverterProvider#converterInfos()} is compared with the index
+ * and a stale entry fails with an {@link IllegalStateException}. Providers missing from an index are instantiated
+ * immediately. Each plugin jar may include its own index, which is generated by {@link #main(String[])} during the
+ * <code>process-classes</code> phase of the build.
+ * <br>
+ * Note this class is not J2CL compatible and is listed in the j2cl ignored files.
+ */
+public final class ConverterProviderDiscovery {
+
+    /**
+     * The resource holding the index, a properties file of provider class name to {@link ConverterInfoSet} text.
+     */
+    public final static String INDEX_RESOURCE = "META-INF/walkingkooka/converter-provider-index.properties";
+
+    /**
+     * Discovers all {@link ConverterProvider} using the given {@link ClassLoader}.
+     */
+    public static ConverterProvider discover(final ClassLoader classLoader) {
+        Objects.requireNonNull(classLoader, "classLoader");
+
+        return discover(
+            providers(classLoader),
+            readIndex(classLoader)
+        );
+    }
+
+    // @VisibleForTesting
+    static ConverterProvider discover(final List<ServiceLoader.Provider<ConverterProvider>> services,
+                                      final Properties index) {
+        final Set<ConverterProvider> providers = Sets.ordered();
+
+        for (final ServiceLoader.Provider<ConverterProvider> service : services) {
+            final String className = service.type()
+                .getName();
+            final String infos = index.getProperty(className);
+
+            if (null != infos) {
+                final ConverterInfoSet indexed = ConverterInfoSet.parse(infos);
+
+                providers.add(
+                    LazyConverterProvider.with(
+                        indexed,
+                        () -> verify(
+                            className,
+                            indexed,
+                            service.get()
+                        )
+                    )
+                );
+            } else {
+                providers.add(
+                    service.get()
+                );
+            }
+        }
+
+        return providers.isEmpty() ?
+            ConverterProviders.empty() :
+            ConverterProviders.collection(providers);
+    }
+
+    /**
+     * Fails if the indexed {@link ConverterInfoSet} is different from that of the created {@link ConverterProvider}.
+     */
+    private static ConverterProvider verify(final String className,
+                                            final ConverterInfoSet indexed,
+                                            final ConverterProvider provider) {
+        final ConverterInfoSet infos = provider.converterInfos();
+        if (false == indexed.equals(infos)) {
+            throw new IllegalStateException("Stale index entry for " + className + " indexed " + indexed + " but provider has " + infos);
+        }
+        return provider;
+    }
+
+    /**
+     * Writes an index for all {@link ConverterProvider} services found using the given {@link ClassLoader}, which
+     * requires instantiating each.
+     */
+    public static void writeIndex(final ClassLoader classLoader,
+                                  final Writer writer) throws IOException {
+        Objects.requireNonNull(classLoader, "classLoader");
+        Objects.requireNonNull(writer, "writer");
+
+        final Properties index = new Properties();
+        for (final ServiceLoader.Provider<ConverterProvider> service : providers(classLoader)) {
+            index.setProperty(
+                service.type()
+                    .getName(),
+                service.get()
+                    .converterInfos()
+                    .text()
+            );
+        }
+
+        index.store(
+            writer,
+            ConverterProviderDiscovery.class.getSimpleName()
+        );
+    }
+
+    /**
+     * Writes the index of all {@link ConverterProvider} found on the class path to the given file. It is run by the
+     * exec-maven-plugin during the <code>process-classes</code> phase, writing
+     * <code>target/classes/META-INF/walkingkooka/converter-provider-index.properties</code>, so the index is rebuilt
+     * whenever a provider changes.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (1 != args.length) {
+            throw new IllegalArgumentException("Expected index file got " + args.length + " arguments");
+        }
+
+        final Path file = Paths.get(args[0]);
+        final Path parent = file.getParent();
+        if (null != parent) {
+            Files.createDirectories(parent);
+        }
+
+        try (final Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeIndex(
+                Thread.currentThread().getContextClassLoader(),
+                writer
+            );
+        }
+    }
+
+    /**
+     * Lists the {@link ConverterProvider} services without instantiating any.
+     */
+    private static List<ServiceLoader.Provider<ConverterProvider>> providers(final ClassLoader classLoader) {
+        return ServiceLoader.load(
+            ConverterProvider.class,
+            classLoader
+        ).stream()
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Merges all index resources into a single {@link Properties}.
+     */
+    private static Properties readIndex(final ClassLoader classLoader) {
+        final Properties index = new Properties();
+
+        for (final URL url : resources(INDEX_RESOURCE, classLoader)) {
+            try (final Reader reader = new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)) {
+                index.load(reader);
+            } catch (final IOException cause) {
+                throw new UncheckedIOException("Failed to read " + url, cause);
+            }
+        }
+
+        return index;
+    }
+
+    private static Iterable<URL> resources(final String name,
+                                           final ClassLoader classLoader) {
+        final Enumeration<URL> urls;
+        try {
+            urls = classLoader.getResources(name);
+        } catch (final IOException cause) {
+            throw new UncheckedIOException("Failed to find " + name, cause);
+        }
+        return urls::asIterator;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ConverterProviderDiscovery() {
+        throw new UnsupportedOperationException();
+    }
+}
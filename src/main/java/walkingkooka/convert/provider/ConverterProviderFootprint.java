@@ -0,0 +1,274 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An estimate of the heap retained by a single layer of a {@link ConverterProvider} stack, such as its
+ * {@link ConverterInfoSet}, {@link ConverterAliasSet} and any caches, along with the footprints of the
+ * {@link ConverterProvider} it wraps.
+ * <br>
+ * Sizes are rough estimates assuming a 64-bit JVM, and are intended for comparing tenants rather than as exact byte
+ * counts. Shared singletons such as {@link ConverterProviders#converters()} and the shared builtin {@link ConverterInfo}
+ * are not counted, because they are retained regardless of any one provider.
+ */
+public final class ConverterProviderFootprint {
+
+    /**
+     * The estimated size of an object header.
+     */
+    final static int OBJECT = 16;
+
+    /**
+     * The estimated size of a reference.
+     */
+    final static int REFERENCE = 8;
+
+    /**
+     * The estimated size of a single entry in a tree or hash map or set, including the node object.
+     */
+    final static int ENTRY = OBJECT + 4 * REFERENCE;
+
+    /**
+     * Returns the {@link ConverterProviderFootprint} for the given {@link ConverterProvider}. Providers that do not
+     * implement {@link HasConverterProviderFootprint} are reported as a single layer using their {@link ConverterInfoSet}.
+     */
+    public static ConverterProviderFootprint of(final ConverterProvider provider) {
+        Objects.requireNonNull(provider, "provider");
+
+        final ConverterProviderFootprint footprint;
+        if (provider instanceof HasConverterProviderFootprint) {
+            footprint = ((HasConverterProviderFootprint) provider).converterProviderFootprint();
+        } else {
+            final ConverterInfoSet infos = provider.converterInfos();
+            footprint = with(
+                provider,
+                infos.size(),
+                OBJECT + infos(infos)
+            );
+        }
+        return footprint;
+    }
+
+    /**
+     * Factory that creates a layer for the given {@link ConverterProvider}, with the footprint of any wrapped providers.
+     */
+    static ConverterProviderFootprint with(final Object layer,
+                                           final int entries,
+                                           final long bytes,
+                                           final ConverterProvider... children) {
+        final List<ConverterProviderFootprint> footprints = Lists.array();
+        for (final ConverterProvider child : children) {
+            footprints.add(
+                of(child)
+            );
+        }
+
+        return new ConverterProviderFootprint(
+            layerName(layer),
+            entries,
+            bytes,
+            Lists.immutable(footprints)
+        );
+    }
+
+    /**
+     * The simple class name of the layer, falling back to the full name for anonymous and lambda classes which have an
+     * empty simple name.
+     */
+    private static String layerName(final Object layer) {
+        final Class<?> type = layer.getClass();
+        final String simpleName = type.getSimpleName();
+        return simpleName.isEmpty() ?
+            type.getName() :
+            simpleName;
+    }
+
+    /**
+     * Estimates the size of a {@link ConverterInfoSet}, the shared builtin {@link ConverterInfo} only count as a
+     * reference within the set.
+     */
+    static long infos(final ConverterInfoSet infos) {
+        long bytes = OBJECT * 2;
+
+        for (final ConverterInfo info : infos) {
+            bytes += ENTRY;
+            if (false == ConverterInfoBuiltins.isShared(info)) {
+                bytes += OBJECT * 4 + text(info.toString());
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Estimates the size of a {@link ConverterAliasSet}.
+     */
+    static long aliases(final ConverterAliasSet aliases) {
+        long bytes = OBJECT * 2;
+
+        for (final ConverterAlias alias : aliases) {
+            bytes += ENTRY + OBJECT * 4 + text(alias.toString());
+        }
+        return bytes;
+    }
+
+    /**
+     * Estimates the size of a map or set with the given number of entries, not including the keys or values.
+     */
+    static long entries(final int count) {
+        return OBJECT * 2 + (long) ENTRY * count;
+    }
+
+    /**
+     * Estimates the size of a {@link String}, assuming each character takes one byte.
+     */
+    private static long text(final String text) {
+        return OBJECT * 2 + text.length();
+    }
+
+    private ConverterProviderFootprint(final String layer,
+                                       final int entries,
+                                       final long bytes,
+                                       final List<ConverterProviderFootprint> children) {
+        this.layer = layer;
+        this.entries = entries;
+        this.bytes = bytes;
+        this.children = children;
+    }
+
+    /**
+     * The simple class name of the {@link ConverterProvider} for this layer.
+     */
+    public String layer() {
+        return this.layer;
+    }
+
+    private final String layer;
+
+    /**
+     * The number of entries held by this layer, such as infos, aliases or cached converters.
+     */
+    public int entries() {
+        return this.entries;
+    }
+
+    private final int entries;
+
+    /**
+     * The estimated bytes retained by this layer alone, not including its children.
+     */
+    public long bytes() {
+        return this.bytes;
+    }
+
+    private final long bytes;
+
+    /**
+     * The footprints of the wrapped {@link ConverterProvider}.
+     */
+    public List<ConverterProviderFootprint> children() {
+        return this.children;
+    }
+
+    private final List<ConverterProviderFootprint> children;
+
+    /**
+     * The estimated bytes retained by this layer and all its children.
+     */
+    public long retainedBytes() {
+        long retained = this.bytes;
+        for (final ConverterProviderFootprint child : this.children) {
+            retained += child.retainedBytes();
+        }
+        return retained;
+    }
+
+    /**
+     * The number of entries in this layer and all its children.
+     */
+    public long retainedEntries() {
+        long retained = this.entries;
+        for (final ConverterProviderFootprint child : this.children) {
+            retained += child.retainedEntries();
+        }
+        return retained;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.layer,
+            this.entries,
+            this.bytes,
+            this.children
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ConverterProviderFootprint &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ConverterProviderFootprint other) {
+        return this.layer.equals(other.layer) &&
+            this.entries == other.entries &&
+            this.bytes == other.bytes &&
+            this.children.equals(other.children);
+    }
+
+    /**
+     * Returns the layer, entries and bytes followed by any children within parens, eg
+     * <pre>
+     * AliasesConverterProvider 3 entries 1234 bytes (ConvertersConverterProvider 80 entries 0 bytes)
+     * </pre>
+     */
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append(this.layer)
+            .append(' ')
+            .append(this.entries)
+            .append(" entries ")
+            .append(this.bytes)
+            .append(" bytes");
+
+        final List<ConverterProviderFootprint> children = this.children;
+        if (false == children.isEmpty()) {
+            b.append(" (");
+
+            String separator = "";
+            for (final ConverterProviderFootprint child : children) {
+                b.append(separator)
+                    .append(child);
+                separator = ", ";
+            }
+
+            b.append(')');
+        }
+        return b.toString();
+    }
+}
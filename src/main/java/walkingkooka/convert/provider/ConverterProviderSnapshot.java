@@ -0,0 +1,235 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.Cast;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+import walkingkooka.tree.json.marshall.JsonNodeContext;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+
+import java.util.Objects;
+
+/**
+ * Captures a {@link ConverterAliasSet} along with the {@link ConverterInfoSet} that results from merging it with the
+ * {@link ConverterInfoSet} of a {@link ConverterProvider}. A snapshot may be marshalled to json and saved, then later
+ * unmarshalled and used to create the aliases {@link ConverterProvider} without repeating the merge and its validation.
+ * <br>
+ * Only the merge is skipped, unmarshalling still parses and validates the saved {@link ConverterAliasSet} and
+ * {@link ConverterInfoSet} text just like building the provider from metadata text does.
+ * <br>
+ * The snapshot records the {@link ConverterInfoSet#contentHash()} of the {@link ConverterProvider} it was taken from,
+ * and {@link #provider(ConverterProvider)} fails when given a {@link ConverterProvider} whose infos no longer match.
+ */
+public final class ConverterProviderSnapshot {
+
+    /**
+     * Takes a snapshot of the aliases {@link ConverterProvider} that would be created for the given
+     * {@link ConverterAliasSet} and {@link ConverterProvider}.
+     */
+    public static ConverterProviderSnapshot with(final ConverterAliasSet aliases,
+                                                 final ConverterProvider provider) {
+        Objects.requireNonNull(aliases, "aliases");
+        Objects.requireNonNull(provider, "provider");
+
+        final ConverterInfoSet source = provider.converterInfos();
+
+        return new ConverterProviderSnapshot(
+            aliases,
+            aliases.merge(source),
+            source.contentHash()
+        );
+    }
+
+    private ConverterProviderSnapshot(final ConverterAliasSet aliases,
+                                      final ConverterInfoSet infos,
+                                      final long sourceContentHash) {
+        this.aliases = aliases;
+        this.infos = infos;
+        this.sourceContentHash = sourceContentHash;
+    }
+
+    /**
+     * Creates the aliases {@link ConverterProvider} wrapping the given {@link ConverterProvider} using the captured
+     * {@link ConverterInfoSet}, failing if the given {@link ConverterProvider} has different infos from the one the
+     * snapshot was taken from.
+     */
+    public ConverterProvider provider(final ConverterProvider provider) {
+        Objects.requireNonNull(provider, "provider");
+
+        final long contentHash = provider.converterInfos()
+            .contentHash();
+        if (this.sourceContentHash != contentHash) {
+            throw new IllegalArgumentException("Snapshot infos " + this.sourceContentHash + " different from provider infos " + contentHash);
+        }
+
+        return AliasesConverterProvider.withInfos(
+            this.aliases,
+            this.infos,
+            provider
+        );
+    }
+
+    ConverterAliasSet aliases() {
+        return this.aliases;
+    }
+
+    private final ConverterAliasSet aliases;
+
+    /**
+     * The merged {@link ConverterInfoSet}.
+     */
+    ConverterInfoSet infos() {
+        return this.infos;
+    }
+
+    private final ConverterInfoSet infos;
+
+    /**
+     * The {@link ConverterInfoSet#contentHash()} of the {@link ConverterProvider} the snapshot was taken from.
+     */
+    private final long sourceContentHash;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.aliases,
+            this.infos,
+            this.sourceContentHash
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ConverterProviderSnapshot &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ConverterProviderSnapshot other) {
+        return this.aliases.equals(other.aliases) &&
+            this.infos.equals(other.infos) &&
+            this.sourceContentHash == other.sourceContentHash;
+    }
+
+    @Override
+    public String toString() {
+        return this.aliases + " " + this.infos;
+    }
+
+    // json.............................................................................................................
+
+    private final static String ALIASES_PROPERTY_STRING = "aliases";
+
+    private final static String INFOS_PROPERTY_STRING = "infos";
+
+    private final static String SOURCE_CONTENT_HASH_PROPERTY_STRING = "sourceContentHash";
+
+    // @VisibleForTesting
+    final static JsonPropertyName ALIASES_PROPERTY = JsonPropertyName.with(ALIASES_PROPERTY_STRING);
+
+    // @VisibleForTesting
+    final static JsonPropertyName INFOS_PROPERTY = JsonPropertyName.with(INFOS_PROPERTY_STRING);
+
+    // @VisibleForTesting
+    final static JsonPropertyName SOURCE_CONTENT_HASH_PROPERTY = JsonPropertyName.with(SOURCE_CONTENT_HASH_PROPERTY_STRING);
+
+    /**
+     * The content hash is marshalled as a string, a json number cannot hold every long exactly.
+     */
+    private JsonNode marshall(final JsonNodeMarshallContext context) {
+        return JsonNode.object()
+            .set(
+                ALIASES_PROPERTY,
+                context.marshall(this.aliases)
+            ).set(
+                INFOS_PROPERTY,
+                context.marshall(this.infos)
+            ).set(
+                SOURCE_CONTENT_HASH_PROPERTY,
+                JsonNode.string(
+                    String.valueOf(this.sourceContentHash)
+                )
+            );
+    }
+
+    // @VisibleForTesting
+    static ConverterProviderSnapshot unmarshall(final JsonNode node,
+                                                final JsonNodeUnmarshallContext context) {
+        ConverterAliasSet aliases = null;
+        ConverterInfoSet infos = null;
+        Long sourceContentHash = null;
+
+        for (final JsonNode child : node.objectOrFail().children()) {
+            final JsonPropertyName name = child.name();
+            switch (name.value()) {
+                case ALIASES_PROPERTY_STRING:
+                    aliases = context.unmarshall(
+                        child,
+                        ConverterAliasSet.class
+                    );
+                    break;
+                case INFOS_PROPERTY_STRING:
+                    infos = context.unmarshall(
+                        child,
+                        ConverterInfoSet.class
+                    );
+                    break;
+                case SOURCE_CONTENT_HASH_PROPERTY_STRING:
+                    sourceContentHash = Long.parseLong(
+                        child.stringOrFail()
+                    );
+                    break;
+                default:
+                    JsonNodeUnmarshallContext.unknownPropertyPresent(name, node);
+                    break;
+            }
+        }
+
+        if (null == aliases) {
+            JsonNodeUnmarshallContext.missingProperty(ALIASES_PROPERTY, node);
+        }
+        if (null == infos) {
+            JsonNodeUnmarshallContext.missingProperty(INFOS_PROPERTY, node);
+        }
+        if (null == sourceContentHash) {
+            JsonNodeUnmarshallContext.missingProperty(SOURCE_CONTENT_HASH_PROPERTY, node);
+        }
+
+        return new ConverterProviderSnapshot(
+            aliases,
+            infos,
+            sourceContentHash
+        );
+    }
+
+    static {
+        ConverterAliasSet.register(); // force json registry
+        ConverterInfoSet.EMPTY.size();
+
+        JsonNodeContext.register(
+            JsonNodeContext.computeTypeName(ConverterProviderSnapshot.class),
+            ConverterProviderSnapshot::unmarshall,
+            ConverterProviderSnapshot::marshall,
+            ConverterProviderSnapshot.class
+        );
+    }
+}
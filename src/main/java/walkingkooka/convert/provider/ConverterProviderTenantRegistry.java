@@ -0,0 +1,455 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.plugin.ProviderContext;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * A registry of tenants, each with a {@link ConverterAliasSet} and filter {@link ConverterInfoSet} over a shared
+ * {@link ConverterProvider}. Tenants with equal configurations share a single {@link ConverterProvider} along with
+ * its cache of resolved {@link Converter}, so memory grows with the number of distinct configurations rather than the
+ * number of tenants.
+ * <br>
+ * Cached {@link Converter} are keyed by {@link ConverterSelector} and {@link ProviderContext}, so tenants sharing a
+ * configuration only share a {@link Converter} when they also resolve it with an equal {@link ProviderContext}. Each
+ * cache holds at most {@link #CONVERTER_CACHE_CAPACITY} entries, evicting an arbitrary entry when full.
+ * <br>
+ * Tenants that have not been accessed within the idle time are removed by {@link #evictIdle()}, along with any
+ * configuration no longer used by any tenant. The cache of a configuration is only cleared when its last tenant is
+ * released, the remaining tenants of a configuration keep its cache and entries only used by released tenants are
+ * eventually evicted when the cache is full.
+ */
+public final class ConverterProviderTenantRegistry<K> {
+
+    /**
+     * The maximum number of cached {@link Converter} for each configuration.
+     */
+    public final static int CONVERTER_CACHE_CAPACITY = 256;
+
+    /**
+     * Creates a new empty registry where the clock returns the current time in millis.
+     */
+    public static <K> ConverterProviderTenantRegistry<K> with(final ConverterProvider provider,
+                                                              final long idleMillis,
+                                                              final LongSupplier clock) {
+        Objects.requireNonNull(provider, "provider");
+        if (idleMillis <= 0) {
+            throw new IllegalArgumentException("Invalid idleMillis " + idleMillis + " <= 0");
+        }
+        Objects.requireNonNull(clock, "clock");
+
+        return new ConverterProviderTenantRegistry<>(
+            provider,
+            idleMillis,
+            clock
+        );
+    }
+
+    private ConverterProviderTenantRegistry(final ConverterProvider provider,
+                                            final long idleMillis,
+                                            final LongSupplier clock) {
+        this.provider = provider;
+        this.idleMillis = idleMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Registers or replaces the configuration of the given tenant, returning the {@link ConverterProvider} shared with
+     * any other tenant with an equal configuration.
+     */
+    public ConverterProvider register(final K tenant,
+                                      final ConverterAliasSet aliases,
+                                      final ConverterInfoSet infos) {
+        Objects.requireNonNull(tenant, "tenant");
+
+        final ConverterProviderTenantRegistryConfiguration configuration = ConverterProviderTenantRegistryConfiguration.with(
+            aliases,
+            infos
+        );
+
+        synchronized (this.tenants) {
+            final ConverterProviderTenantRegistryTenant previous = this.tenants.get(tenant);
+            if (null != previous) {
+                if (previous.shared.configuration.equals(configuration)) {
+                    previous.touch(this.clock.getAsLong());
+                    return previous.shared;
+                }
+                this.release(previous.shared);
+            }
+
+            ConverterProviderTenantRegistryShared shared = this.configurations.get(configuration);
+            if (null == shared) {
+                shared = new ConverterProviderTenantRegistryShared(
+                    configuration,
+                    this.provider
+                );
+                this.configurations.put(
+                    configuration,
+                    shared
+                );
+            }
+            shared.tenantCount++;
+
+            this.tenants.put(
+                tenant,
+                new ConverterProviderTenantRegistryTenant(
+                    shared,
+                    this.clock.getAsLong()
+                )
+            );
+            return shared;
+        }
+    }
+
+    /**
+     * Returns the {@link ConverterProvider} for a registered tenant, marking it as recently accessed.
+     */
+    public Optional<ConverterProvider> provider(final K tenant) {
+        Objects.requireNonNull(tenant, "tenant");
+
+        final ConverterProviderTenantRegistryTenant registered = this.tenants.get(tenant);
+        final ConverterProvider provider;
+        if (null != registered) {
+            registered.touch(this.clock.getAsLong());
+            provider = registered.shared;
+        } else {
+            provider = null;
+        }
+        return Optional.ofNullable(provider);
+    }
+
+    /**
+     * Returns the {@link ConverterProviderFootprint} for a registered tenant, without marking it as recently accessed.
+     * Tenants with the same configuration share a single provider and report the same footprint.
+     */
+    public Optional<ConverterProviderFootprint> footprint(final K tenant) {
+        Objects.requireNonNull(tenant, "tenant");
+
+        final ConverterProviderTenantRegistryTenant registered = this.tenants.get(tenant);
+        return Optional.ofNullable(
+            null != registered ?
+                registered.shared.converterProviderFootprint() :
+                null
+        );
+    }
+
+    /**
+     * Removes tenants that have not been accessed within the idle time, returning the number removed.
+     */
+    public int evictIdle() {
+        final long oldest = this.clock.getAsLong() - this.idleMillis;
+        int evicted = 0;
+
+        synchronized (this.tenants) {
+            final Iterator<ConverterProviderTenantRegistryTenant> iterator = this.tenants.values()
+                .iterator();
+            while (iterator.hasNext()) {
+                final ConverterProviderTenantRegistryTenant tenant = iterator.next();
+                if (tenant.lastAccess < oldest) {
+                    iterator.remove();
+                    this.release(tenant.shared);
+                    evicted++;
+                }
+            }
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Must be called while holding the lock.
+     */
+    private void release(final ConverterProviderTenantRegistryShared shared) {
+        shared.tenantCount--;
+        if (0 == shared.tenantCount) {
+            this.configurations.remove(shared.configuration);
+            shared.clearCache();
+        }
+    }
+
+    /**
+     * The number of registered tenants.
+     */
+    public int tenantCount() {
+        return this.tenants.size();
+    }
+
+    /**
+     * The number of distinct configurations in use.
+     */
+    public int configurationCount() {
+        return this.configurations.size();
+    }
+
+    /**
+     * The {@link ConverterProvider} shared by all configurations.
+     */
+    private final ConverterProvider provider;
+
+    private final long idleMillis;
+
+    private final LongSupplier clock;
+
+    /**
+     * Also the lock guarding all updates.
+     */
+    private final Map<K, ConverterProviderTenantRegistryTenant> tenants = Maps.concurrent();
+
+    /**
+     * Only accessed while holding the lock.
+     */
+    private final Map<ConverterProviderTenantRegistryConfiguration, ConverterProviderTenantRegistryShared> configurations = Maps.hash();
+
+    @Override
+    public String toString() {
+        return this.tenantCount() + " tenant(s) " + this.configurationCount() + " configuration(s)";
+    }
+
+    /**
+     * The content of a tenant configuration, used as the key to share providers between tenants.
+     */
+    private static final class ConverterProviderTenantRegistryConfiguration {
+
+        static ConverterProviderTenantRegistryConfiguration with(final ConverterAliasSet aliases,
+                                                                 final ConverterInfoSet infos) {
+            return new ConverterProviderTenantRegistryConfiguration(
+                Objects.requireNonNull(aliases, "aliases"),
+                Objects.requireNonNull(infos, "infos")
+            );
+        }
+
+        private ConverterProviderTenantRegistryConfiguration(final ConverterAliasSet aliases,
+                                                             final ConverterInfoSet infos) {
+            this.aliases = aliases;
+            this.infos = infos;
+            this.hashCode = Objects.hash(
+                aliases,
+                infos
+            );
+        }
+
+        final ConverterAliasSet aliases;
+
+        final ConverterInfoSet infos;
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        private final int hashCode;
+
+        @Override
+        public boolean equals(final Object other) {
+            return this == other ||
+                other instanceof ConverterProviderTenantRegistryConfiguration &&
+                    this.equals0(Cast.to(other));
+        }
+
+        private boolean equals0(final ConverterProviderTenantRegistryConfiguration other) {
+            return this.hashCode == other.hashCode &&
+                this.aliases.equals(other.aliases) &&
+                this.infos.equals(other.infos);
+        }
+
+        @Override
+        public String toString() {
+            return this.aliases + " " + this.infos;
+        }
+    }
+
+    /**
+     * A registered tenant.
+     */
+    private static final class ConverterProviderTenantRegistryTenant {
+
+        ConverterProviderTenantRegistryTenant(final ConverterProviderTenantRegistryShared shared,
+                                              final long lastAccess) {
+            this.shared = shared;
+            this.lastAccess = lastAccess;
+        }
+
+        void touch(final long now) {
+            this.lastAccess = now;
+        }
+
+        final ConverterProviderTenantRegistryShared shared;
+
+        volatile long lastAccess;
+    }
+
+    /**
+     * The {@link ConverterProvider} for a configuration, with a cache of {@link Converter} resolved by
+     * {@link ConverterSelector}.
+     */
+    private static final class ConverterProviderTenantRegistryShared implements ConverterProvider,
+        HasConverterProviderFootprint {
+
+        ConverterProviderTenantRegistryShared(final ConverterProviderTenantRegistryConfiguration configuration,
+                                              final ConverterProvider provider) {
+            this.configuration = configuration;
+            this.provider = ConverterProviders.aliases(
+                configuration.aliases,
+                ConverterProviders.filteredMapped(
+                    configuration.infos,
+                    provider
+                )
+            );
+        }
+
+        @Override
+        public <C extends ConverterContext> Converter<C> converter(final ConverterSelector selector,
+                                                                   final ProviderContext context) {
+            Objects.requireNonNull(selector, "selector");
+            Objects.requireNonNull(context, "context");
+
+            final ConverterProviderTenantRegistryCacheKey key = new ConverterProviderTenantRegistryCacheKey(
+                selector,
+                context
+            );
+            final Map<ConverterProviderTenantRegistryCacheKey, Converter<?>> cache = this.cache;
+
+            Converter<?> converter = cache.get(key);
+            if (null == converter) {
+                converter = this.provider.converter(
+                    selector,
+                    context
+                );
+
+                if (cache.size() >= CONVERTER_CACHE_CAPACITY) {
+                    final Iterator<ConverterProviderTenantRegistryCacheKey> keys = cache.keySet()
+                        .iterator();
+                    if (keys.hasNext()) {
+                        cache.remove(keys.next());
+                    }
+                }
+                cache.put(
+                    key,
+                    converter
+                );
+            }
+            return Cast.to(converter);
+        }
+
+        void clearCache() {
+            this.cache.clear();
+        }
+
+        @Override
+        public <C extends ConverterContext> Converter<C> converter(final ConverterName name,
+                                                                   final List<?> values,
+                                                                   final ProviderContext context) {
+            return this.provider.converter(
+                name,
+                values,
+                context
+            );
+        }
+
+        @Override
+        public ConverterInfoSet converterInfos() {
+            return this.provider.converterInfos();
+        }
+
+        final ConverterProviderTenantRegistryConfiguration configuration;
+
+        private final ConverterProvider provider;
+
+        private final Map<ConverterProviderTenantRegistryCacheKey, Converter<?>> cache = Maps.concurrent();
+
+        /**
+         * Only accessed while holding the registry lock.
+         */
+        int tenantCount;
+
+        // HasConverterProviderFootprint................................................................................
+
+        @Override
+        public ConverterProviderFootprint converterProviderFootprint() {
+            final int count = this.cache.size();
+
+            // the cache holds a key, selector and converter for each entry
+            return ConverterProviderFootprint.with(
+                this,
+                count,
+                ConverterProviderFootprint.OBJECT +
+                    ConverterProviderFootprint.entries(count) +
+                    (long) ConverterProviderFootprint.OBJECT * 3 * count,
+                this.provider
+            );
+        }
+
+        @Override
+        public String toString() {
+            return this.provider.toString();
+        }
+    }
+
+    /**
+     * The key of a cached {@link Converter}, a {@link ConverterSelector} and the {@link ProviderContext} it was resolved
+     * with.
+     */
+    private static final class ConverterProviderTenantRegistryCacheKey {
+
+        ConverterProviderTenantRegistryCacheKey(final ConverterSelector selector,
+                                                final ProviderContext context) {
+            this.selector = selector;
+            this.context = context;
+        }
+
+        private final ConverterSelector selector;
+
+        private final ProviderContext context;
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                this.selector,
+                this.context
+            );
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return this == other ||
+                other instanceof ConverterProviderTenantRegistryCacheKey &&
+                    this.equals0(Cast.to(other));
+        }
+
+        private boolean equals0(final ConverterProviderTenantRegistryCacheKey other) {
+            return this.selector.equals(other.selector) &&
+                this.context.equals(other.context);
+        }
+
+        @Override
+        public String toString() {
+            return this.selector + " " + this.context;
+        }
+    }
+}
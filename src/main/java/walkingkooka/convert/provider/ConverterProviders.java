@@ -23,6 +23,7 @@ import walkingkooka.net.Url;
 import walkingkooka.reflect.PublicStaticHelper;
 
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * A collection of ConverterProvider(s).
@@ -98,6 +99,30 @@ public final class ConverterProviders implements PublicStaticHelper {
         );
     }
 
+    /**
+     * {@see InstrumentedConverterProvider}
+     */
+    public static ConverterProvider instrumented(final ConverterProvider provider,
+                                                 final ConverterConversionRegistry registry,
+                                                 final int sampleRate) {
+        return InstrumentedConverterProvider.with(
+            provider,
+            registry,
+            sampleRate
+        );
+    }
+
+    /**
+     * {@see LazyConverterProvider}
+     */
+    public static ConverterProvider lazy(final ConverterInfoSet infos,
+                                         final Supplier<ConverterProvider> provider) {
+        return LazyConverterProvider.with(
+            infos,
+            provider
+        );
+    }
+
     /**
      * {@see MergedMappedConverterProvider}
      */
@@ -109,6 +134,17 @@ public final class ConverterProviders implements PublicStaticHelper {
         );
     }
 
+    /**
+     * {@see MeteredConverterProvider}
+     */
+    public static ConverterProvider metered(final ConverterProvider provider,
+                                            final ConverterMetricRegistry registry) {
+        return MeteredConverterProvider.with(
+            provider,
+            registry
+        );
+    }
+
     /**
      * Stop creation
      */
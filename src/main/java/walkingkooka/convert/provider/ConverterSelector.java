@@ -17,6 +17,8 @@
 
 package walkingkooka.convert.provider;
 
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.map.Maps;
 import walkingkooka.convert.Converter;
 import walkingkooka.convert.ConverterContext;
 import walkingkooka.net.header.HasContentType;
@@ -30,9 +32,12 @@ import walkingkooka.tree.json.marshall.JsonNodeContext;
 import walkingkooka.tree.json.marshall.JsonNodeMarshallContext;
 import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Contains the {@link ConverterName} and some text which may contain an expression for a {@link Converter}.
@@ -51,6 +56,65 @@ public final class ConverterSelector implements PluginSelectorLike<ConverterName
         );
     }
 
+    /**
+     * Parses many texts into {@link ConverterSelector}, returned in the same order. Within a single call equal texts and
+     * equal {@link ConverterSelector} return the same instance, and {@link ConverterName} that are not constants are
+     * shared, which greatly reduces the memory used when many selectors are similar. Any invalid text fails just like
+     * {@link #parse(String)}.
+     */
+    public static List<ConverterSelector> parseAll(final Collection<String> texts) {
+        Objects.requireNonNull(texts, "texts");
+
+        final Map<String, ConverterName> names = Maps.hash();
+        final Function<String, ConverterName> nameFactory = (n) -> {
+            ConverterName name = names.get(n);
+            if (null == name) {
+                name = ConverterName.with(n);
+                names.put(
+                    n,
+                    name
+                );
+            }
+            return name;
+        };
+
+        final Map<String, ConverterSelector> textToSelector = Maps.hash();
+        final Map<ConverterSelector, ConverterSelector> selectors = Maps.hash();
+        final List<ConverterSelector> parsed = Lists.array();
+
+        for (final String text : texts) {
+            Objects.requireNonNull(text, "text");
+
+            ConverterSelector selector = textToSelector.get(text);
+            if (null == selector) {
+                final ConverterSelector parsedSelector = new ConverterSelector(
+                    PluginSelector.parse(
+                        text,
+                        nameFactory
+                    )
+                );
+
+                // different texts may still parse to an equal selector
+                selector = selectors.get(parsedSelector);
+                if (null == selector) {
+                    selector = parsedSelector;
+                    selectors.put(
+                        selector,
+                        selector
+                    );
+                }
+                textToSelector.put(
+                    text,
+                    selector
+                );
+            }
+
+            parsed.add(selector);
+        }
+
+        return Lists.immutable(parsed);
+    }
+
     /**
      * Factory that creates a new {@link ConverterSelector}.
      */
@@ -66,6 +130,7 @@ public final class ConverterSelector implements PluginSelectorLike<ConverterName
 
     private ConverterSelector(final PluginSelector<ConverterName> selector) {
         this.selector = selector;
+        this.hashCode = selector.hashCode();
     }
 
     // HasName..........................................................................................................
@@ -124,6 +189,43 @@ public final class ConverterSelector implements PluginSelectorLike<ConverterName
             new ConverterSelector(different);
     }
 
+    // canonical........................................................................................................
+
+    /**
+     * Returns an equivalent {@link ConverterSelector} with its {@link #valueText()} in a canonical form, so selectors
+     * that differ only in whitespace or redundant zeros in numbers are equal and may share a cache entry.
+     * <pre>
+     * collection( boolean-to-number ,to-text )
+     * collection (boolean-to-number, to-text)
+     * </pre>
+     * If the {@link #valueText()} is not a parameter list that can be safely rewritten this is returned, and any error
+     * is still reported by {@link #evaluateValueText(ConverterProvider, ProviderContext)}.
+     */
+    public ConverterSelector canonical() {
+        ConverterSelector canonical = this.canonical;
+        if (null == canonical) {
+            final String valueText = this.valueText();
+            final String canonicalValueText = ConverterSelectorCanonicalForm.valueText(valueText);
+
+            canonical = null == canonicalValueText || canonicalValueText.equals(valueText) ?
+                this :
+                with(
+                    this.name(),
+                    canonicalValueText
+                );
+            // racing threads compute equal canonical selectors, which is harmless.
+            canonical.canonical = canonical;
+            this.canonical = canonical;
+        }
+        return canonical;
+    }
+
+    /**
+     * Lazily computed by {@link #canonical()}, volatile so a {@link ConverterSelector} shared between threads is seen
+     * fully constructed.
+     */
+    private volatile ConverterSelector canonical;
+
     // evaluateText.....................................................................................................
 
     /**
@@ -145,20 +247,79 @@ public final class ConverterSelector implements PluginSelectorLike<ConverterName
         Objects.requireNonNull(provider, "provider");
         Objects.requireNonNull(context, "context");
 
-        return this.selector.evaluateValueText(
-            ConverterPluginHelper.INSTANCE::parseName,
-            provider::converter,
-            context
+        final ConverterEventListener listener = ConverterEvents.listener();
+        if (null == listener) {
+            return this.evaluateValueText0(
+                provider,
+                context
+            );
+        }
+
+        final ConverterSelectorArguments arguments = this.arguments;
+        return ConverterEvents.record(
+            listener,
+            ConverterEventKind.SELECTOR_EVALUATE_VALUE_TEXT,
+            this.toString(),
+            this.name(),
+            null != arguments && ConverterSelectorArguments.UNSUPPORTED != arguments, // cacheHit
+            () -> this.<C>evaluateValueText0(
+                provider,
+                context
+            )
         );
     }
 
+    /**
+     * The first evaluation always uses {@link PluginSelector#evaluateValueText}, so any error is reported exactly as
+     * before. Only after a successful evaluation is the {@link #valueText()} parsed and cached, so later evaluations
+     * skip tokenizing the text again.
+     */
+    private <C extends ConverterContext> Converter<C> evaluateValueText0(final ConverterProvider provider,
+                                                                         final ProviderContext context) {
+        final ConverterSelectorArguments arguments = this.arguments;
+
+        final Converter<C> converter;
+        if (null == arguments || ConverterSelectorArguments.UNSUPPORTED == arguments) {
+            converter = this.selector.evaluateValueText(
+                ConverterPluginHelper.INSTANCE::parseName,
+                provider::converter,
+                context
+            );
+
+            if (null == arguments) {
+                this.arguments = ConverterSelectorArguments.parse(
+                    this.valueText()
+                );
+            }
+        } else {
+            converter = arguments.evaluate(
+                this.name(),
+                provider,
+                context
+            );
+        }
+
+        return converter;
+    }
+
+    /**
+     * The parsed {@link #valueText()}, null until the first successful evaluation, or
+     * {@link ConverterSelectorArguments#UNSUPPORTED} if it could not be parsed.
+     */
+    private volatile ConverterSelectorArguments arguments;
+
     // Object...........................................................................................................
 
     @Override
     public int hashCode() {
-        return this.selector.hashCode();
+        return this.hashCode;
     }
 
+    /**
+     * Precomputed as {@link ConverterSelector} are frequently used as cache keys.
+     */
+    private final int hashCode;
+
     @Override
     public boolean equals(final Object other) {
         return this == other ||
@@ -166,7 +327,8 @@ public final class ConverterSelector implements PluginSelectorLike<ConverterName
     }
 
     private boolean equals0(final ConverterSelector other) {
-        return this.selector.equals(other.selector);
+        return this.hashCode == other.hashCode &&
+            this.selector.equals(other.selector);
     }
 
     /**
@@ -0,0 +1,379 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.plugin.ProviderContext;
+
+import java.util.List;
+
+/**
+ * The immutable parsed parameter list of a {@link ConverterSelector#valueText()}, holding double and string literals
+ * and nested {@link ConverterName} with their own parameters. It is cached by {@link ConverterSelector} so the
+ * {@link ConverterSelector#valueText()} is only tokenized once. The same parse also produces the text used by
+ * {@link ConverterSelectorCanonicalForm}, so both share a single grammar.
+ * <br>
+ * Only a simple subset of the grammar is supported, anything else such as string literals with escapes, numbers with
+ * exponents or whitespace other than a space returns {@link #UNSUPPORTED}, and the {@link ConverterSelector} continues
+ * to use {@link walkingkooka.plugin.PluginSelector#evaluateValueText}.
+ */
+final class ConverterSelectorArguments {
+
+    /**
+     * Marks a {@link ConverterSelector#valueText()} that could not be parsed.
+     */
+    final static ConverterSelectorArguments UNSUPPORTED = new ConverterSelectorArguments(
+        null,
+        Lists.empty(),
+        null
+    );
+
+    /**
+     * Parses the value text or returns {@link #UNSUPPORTED}.
+     */
+    static ConverterSelectorArguments parse(final String text) {
+        ConverterSelectorArguments arguments;
+        try {
+            final ConverterSelectorArgumentsParser parser = new ConverterSelectorArgumentsParser(text);
+
+            parser.skipWhitespace();
+            if (parser.isEnd()) {
+                arguments = new ConverterSelectorArguments(
+                    null,
+                    Lists.empty(),
+                    ""
+                );
+            } else {
+                final List<Object> values = parser.parameters();
+                arguments = new ConverterSelectorArguments(
+                    null,
+                    values,
+                    parser.canonical()
+                );
+
+                parser.skipWhitespace();
+                if (false == parser.isEnd()) {
+                    arguments = UNSUPPORTED;
+                }
+            }
+        } catch (final RuntimeException unsupported) {
+            arguments = UNSUPPORTED;
+        }
+
+        return arguments;
+    }
+
+    private ConverterSelectorArguments(final ConverterName name,
+                                       final List<Object> values,
+                                       final String canonical) {
+        this.name = name;
+        this.values = values;
+        this.canonical = canonical;
+    }
+
+    /**
+     * Fetches the {@link Converter} with the given {@link ConverterName}, passing these parameters after fetching any
+     * nested {@link Converter}.
+     */
+    <C extends ConverterContext> Converter<C> evaluate(final ConverterName name,
+                                                       final ConverterProvider provider,
+                                                       final ProviderContext context) {
+        final List<Object> values = Lists.array();
+
+        for (final Object value : this.values) {
+            if (value instanceof ConverterSelectorArguments) {
+                final ConverterSelectorArguments nested = (ConverterSelectorArguments) value;
+                values.add(
+                    nested.evaluate(
+                        nested.name,
+                        provider,
+                        context
+                    )
+                );
+            } else {
+                values.add(value);
+            }
+        }
+
+        return provider.converter(
+            name,
+            Lists.immutable(values),
+            context
+        );
+    }
+
+    /**
+     * The name of a nested {@link Converter}, null for the top level parameters.
+     */
+    private final ConverterName name;
+
+    /**
+     * Double, String or nested {@link ConverterSelectorArguments}.
+     */
+    private final List<Object> values;
+
+    /**
+     * The canonical form of the top level parameters, or null for nested parameters, {@link #UNSUPPORTED} or when a
+     * number cannot be safely rewritten.
+     */
+    final String canonical;
+
+    @Override
+    public String toString() {
+        final String values = this.values.toString();
+        return null == this.name ?
+            values :
+            this.name + values;
+    }
+
+    /**
+     * A simple recursive descent parser, any failure throws an {@link IllegalArgumentException}.
+     */
+    private static final class ConverterSelectorArgumentsParser {
+
+        ConverterSelectorArgumentsParser(final String text) {
+            this.text = text;
+            this.canonical = new StringBuilder(text.length());
+        }
+
+        /**
+         * Returns the canonical text of everything parsed, or null if it contained a number that cannot be rewritten.
+         */
+        String canonical() {
+            return this.canonicalNumbers ?
+                this.canonical.toString() :
+                null;
+        }
+
+        /**
+         * Parses a parameter list including the surrounding parens.
+         */
+        List<Object> parameters() {
+            this.expect('(');
+            this.canonical.append('(');
+
+            final List<Object> values = Lists.array();
+
+            this.skipWhitespace();
+            if (this.isNext(')')) {
+                this.position++;
+            } else {
+                for (; ; ) {
+                    this.skipWhitespace();
+                    values.add(
+                        this.value()
+                    );
+                    this.skipWhitespace();
+
+                    if (this.isNext(')')) {
+                        this.position++;
+                        break;
+                    }
+                    this.expect(',');
+                    this.canonical.append(", ");
+                }
+            }
+            this.canonical.append(')');
+
+            return Lists.immutable(values);
+        }
+
+        private Object value() {
+            final char c = this.next();
+
+            final Object value;
+            if ('"' == c) {
+                value = this.string();
+            } else {
+                if ('-' == c || isDigit(c)) {
+                    value = this.number();
+                } else {
+                    if (Character.isLetter(c)) {
+                        value = this.converter();
+                    } else {
+                        throw new IllegalArgumentException("Unsupported character " + c);
+                    }
+                }
+            }
+            return value;
+        }
+
+        /**
+         * A double quoted string without any backslash escapes.
+         */
+        private String string() {
+            this.expect('"');
+
+            final int start = this.position;
+            for (; ; ) {
+                final char c = this.next();
+                if ('\\' == c) {
+                    throw new IllegalArgumentException("Unsupported escape");
+                }
+                this.position++;
+                if ('"' == c) {
+                    break;
+                }
+            }
+            // string literals are copied unchanged including the surrounding double quotes
+            this.canonical.append(
+                this.text,
+                start - 1,
+                this.position
+            );
+            return this.text.substring(
+                start,
+                this.position - 1
+            );
+        }
+
+        /**
+         * A double with an optional leading minus and decimals, without any exponent. Redundant zeros are removed from
+         * the canonical text using {@link ConverterSelectorCanonicalForm#number(String)}.
+         */
+        private Double number() {
+            final int start = this.position;
+            if (this.isNext('-')) {
+                this.position++;
+            }
+            this.digits();
+            if (this.isNext('.')) {
+                this.position++;
+                this.digits();
+            }
+            if (false == this.isEnd() && Character.isLetter(this.next())) {
+                throw new IllegalArgumentException("Unsupported number");
+            }
+
+            final String token = this.text.substring(
+                start,
+                this.position
+            );
+
+            final String canonical = ConverterSelectorCanonicalForm.number(token);
+            if (null == canonical) {
+                this.canonicalNumbers = false;
+            } else {
+                this.canonical.append(canonical);
+            }
+
+            return Double.valueOf(token);
+        }
+
+        private void digits() {
+            final int start = this.position;
+            while (false == this.isEnd() && isDigit(this.next())) {
+                this.position++;
+            }
+            if (start == this.position) {
+                throw new IllegalArgumentException("Missing digits");
+            }
+        }
+
+        private static boolean isDigit(final char c) {
+            return c >= '0' && c <= '9';
+        }
+
+        /**
+         * A {@link ConverterName} immediately followed by an optional parameter list.
+         */
+        private ConverterSelectorArguments converter() {
+            final int start = this.position;
+            while (false == this.isEnd() && isNameCharacter(this.next())) {
+                this.position++;
+            }
+
+            final ConverterName name = ConverterName.with(
+                this.text.substring(
+                    start,
+                    this.position
+                )
+            );
+            this.canonical.append(
+                this.text,
+                start,
+                this.position
+            );
+
+            return new ConverterSelectorArguments(
+                name,
+                this.isNext('(') ?
+                    this.parameters() :
+                    Lists.empty(),
+                null
+            );
+        }
+
+        private static boolean isNameCharacter(final char c) {
+            return Character.isLetterOrDigit(c) ||
+                '-' == c ||
+                '_' == c ||
+                '.' == c;
+        }
+
+        /**
+         * Only a space is skipped, any other whitespace is left to {@link walkingkooka.plugin.PluginSelector}.
+         */
+        void skipWhitespace() {
+            while (false == this.isEnd() && ' ' == this.next()) {
+                this.position++;
+            }
+        }
+
+        private void expect(final char c) {
+            if (false == this.isNext(c)) {
+                throw new IllegalArgumentException("Expected " + c);
+            }
+            this.position++;
+        }
+
+        private boolean isNext(final char c) {
+            return false == this.isEnd() && c == this.next();
+        }
+
+        /**
+         * Returns the next character without consuming it, failing if the end was reached.
+         */
+        private char next() {
+            if (this.isEnd()) {
+                throw new IllegalArgumentException("Unexpected end");
+            }
+            return this.text.charAt(this.position);
+        }
+
+        boolean isEnd() {
+            return this.position >= this.text.length();
+        }
+
+        private final String text;
+
+        private int position;
+
+        /**
+         * The canonical text of everything parsed so far.
+         */
+        private final StringBuilder canonical;
+
+        /**
+         * Becomes false if a number was parsed that cannot be safely rewritten.
+         */
+        private boolean canonicalNumbers = true;
+    }
+}
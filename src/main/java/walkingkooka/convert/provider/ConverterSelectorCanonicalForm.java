@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+/**
+ * Rewrites the {@link ConverterSelector#valueText()} parameter list into a canonical form. Spaces between tokens are
+ * removed, parameters are separated by a comma and single space, and simple decimal numbers lose any redundant leading
+ * or trailing zeros. String literals are copied unchanged.
+ * <br>
+ * The text is parsed by {@link ConverterSelectorArguments}, so both share the one grammar, which is a subset of the
+ * {@link walkingkooka.plugin.PluginSelector} grammar. Only the space character is treated as whitespace, any other
+ * whitespace such as a tab or newline leaves the text unchanged, so its handling is left to
+ * {@link walkingkooka.plugin.PluginSelector}. Tests check that {@link walkingkooka.plugin.PluginSelector} evaluates
+ * the original and canonical text the same.
+ * <pre>
+ * ( a ,b(  1.50 ) , "x  y" )
+ * (a, b(1.5), "x  y")
+ * </pre>
+ */
+final class ConverterSelectorCanonicalForm {
+
+    /**
+     * Returns the canonical form of the given value text, or null if the text is not a parameter list that can be
+     * safely rewritten, leaving any error to be reported when the {@link ConverterSelector} is evaluated.
+     */
+    static String valueText(final String text) {
+        return ConverterSelectorArguments.parse(text)
+            .canonical;
+    }
+
+    /**
+     * Removes redundant zeros from a simple decimal number such as 001.500, returning a name unchanged. Returns null for
+     * any token where a rewrite could change the value or its validity, such as negative zero which is a different
+     * {@link Double}, a missing digit before or after the dot, or an exponent.
+     */
+    // @VisibleForTesting
+    static String number(final String token) {
+        final int length = token.length();
+        if (0 == length) {
+            return null;
+        }
+        if (Character.isLetter(token.charAt(0))) {
+            return token;
+        }
+
+        final boolean negative = '-' == token.charAt(0);
+
+        int dot = -1;
+        for (int i = negative ? 1 : 0; i < length; i++) {
+            final char c = token.charAt(i);
+            if ('.' == c) {
+                if (-1 != dot) {
+                    return null;
+                }
+                dot = i;
+            } else {
+                if (c < '0' || c > '9') {
+                    return null;
+                }
+            }
+        }
+
+        final int integerStart = negative ? 1 : 0;
+        final int integerEnd = -1 == dot ? length : dot;
+        if (integerStart == integerEnd || length - 1 == dot) {
+            return null;
+        }
+
+        int s = integerStart;
+        while (s < integerEnd - 1 && '0' == token.charAt(s)) {
+            s++;
+        }
+
+        int e = length;
+        if (-1 != dot) {
+            while (e > dot + 1 && '0' == token.charAt(e - 1)) {
+                e--;
+            }
+            if (e == dot + 1) {
+                e = dot;
+            }
+        }
+
+        final String unsigned = token.substring(s, e);
+        return negative ?
+            "0".equals(unsigned) ?
+                null :
+                "-" + unsigned :
+            unsigned;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ConverterSelectorCanonicalForm() {
+        throw new UnsupportedOperationException();
+    }
+}
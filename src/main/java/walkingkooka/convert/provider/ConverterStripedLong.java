@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock free long counter striped over several {@link AtomicLong}. Each update starts at the stripe picked by a hint
+ * from the caller, and moves to the next stripe whenever its compare and set loses to another thread, so concurrent
+ * updates spread out even when callers pass the same hint. No thread identity or {@link java.util.concurrent.atomic.LongAdder}
+ * is used, which keeps this class J2CL compatible.
+ */
+final class ConverterStripedLong {
+
+    /**
+     * Must be a power of two.
+     */
+    final static int STRIPES = 8;
+
+    static ConverterStripedLong empty() {
+        return new ConverterStripedLong();
+    }
+
+    private ConverterStripedLong() {
+        final AtomicLong[] stripes = new AtomicLong[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new AtomicLong();
+        }
+        this.stripes = stripes;
+    }
+
+    /**
+     * Adds the delta and returns the stripe that was updated, which callers may pass as the hint of their next update.
+     */
+    int add(final int hint,
+            final long delta) {
+        int stripe = hint & (STRIPES - 1);
+
+        for (; ; ) {
+            final AtomicLong atomicLong = this.stripes[stripe];
+            final long value = atomicLong.get();
+            if (atomicLong.compareAndSet(value, value + delta)) {
+                break;
+            }
+            stripe = (stripe + 1) & (STRIPES - 1);
+        }
+
+        return stripe;
+    }
+
+    /**
+     * Sums all stripes. Concurrent updates may or may not be included.
+     */
+    long sum() {
+        long sum = 0;
+        for (final AtomicLong atomicLong : this.stripes) {
+            sum += atomicLong.get();
+        }
+        return sum;
+    }
+
+    private final AtomicLong[] stripes;
+
+    @Override
+    public String toString() {
+        return String.valueOf(this.sum());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} that returns each entry in the text of a {@link ConverterAliasSet} or {@link ConverterInfoSet}
+ * one at a time, without copying the whole text. Entries are separated by {@link ConverterAliasSet#SEPARATOR} outside any
+ * parens or quoted string or character, and are returned without surrounding whitespace. An empty entry is returned as an
+ * empty {@link String}, leaving the caller to report the error.
+ */
+final class ConverterTextEntryIterator implements Iterator<String> {
+
+    static ConverterTextEntryIterator with(final CharSequence text) {
+        return new ConverterTextEntryIterator(text);
+    }
+
+    private ConverterTextEntryIterator(final CharSequence text) {
+        this.text = text;
+        this.next = isBlank(text) ?
+            text.length() + 1 :
+            0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.next <= this.text.length();
+    }
+
+    @Override
+    public String next() {
+        if (false == this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final CharSequence text = this.text;
+        final int length = text.length();
+        final char separator = ConverterAliasSet.SEPARATOR.character();
+
+        final int start = this.next;
+        int depth = 0;
+        char quote = 0;
+        int i = start;
+
+        while (i < length) {
+            final char c = text.charAt(i);
+
+            if (0 != quote) {
+                if ('\\' == c) {
+                    i++; // skip escaped character
+                } else {
+                    if (quote == c) {
+                        quote = 0;
+                    }
+                }
+            } else {
+                if ('"' == c || '\'' == c) {
+                    quote = c;
+                } else {
+                    if ('(' == c) {
+                        depth++;
+                    } else {
+                        if (')' == c) {
+                            depth--;
+                        } else {
+                            if (separator == c && 0 == depth) {
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+            i++;
+        }
+
+        final int end = Math.min(i, length);
+        this.start = start;
+        this.end = end;
+        this.next = end + 1;
+
+        return trim(
+            text,
+            start,
+            end
+        );
+    }
+
+    private static String trim(final CharSequence text,
+                               final int start,
+                               final int end) {
+        int s = start;
+        int e = end;
+
+        while (s < e && Character.isWhitespace(text.charAt(s))) {
+            s++;
+        }
+        while (e > s && Character.isWhitespace(text.charAt(e - 1))) {
+            e--;
+        }
+
+        return text.subSequence(s, e)
+            .toString();
+    }
+
+    private static boolean isBlank(final CharSequence text) {
+        final int length = text.length();
+
+        for (int i = 0; i < length; i++) {
+            if (false == Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The index of the first character of the last entry including any leading whitespace.
+     */
+    int start() {
+        return this.start;
+    }
+
+    private int start;
+
+    /**
+     * The index after the last character of the last entry including any trailing whitespace, this is either the index
+     * of the following separator or the length of the text.
+     */
+    int end() {
+        return this.end;
+    }
+
+    private int end;
+
+    private final CharSequence text;
+
+    /**
+     * The index of the first character of the next entry, after the last entry this is greater than the length of the text.
+     */
+    private int next;
+
+    @Override
+    public String toString() {
+        return this.text.toString();
+    }
+}
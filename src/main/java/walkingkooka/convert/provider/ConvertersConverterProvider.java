@@ -24,7 +24,6 @@ import walkingkooka.collect.set.SortedSets;
 import walkingkooka.convert.Converter;
 import walkingkooka.convert.ConverterContext;
 import walkingkooka.convert.Converters;
-import walkingkooka.net.UrlPath;
 import walkingkooka.plugin.ProviderContext;
 
 import java.util.List;
@@ -35,7 +34,8 @@ import java.util.stream.Collectors;
 /**
  * A {@link ConverterProvider} that sources all {@link Converter} from {@link Converters}.
  */
-final class ConvertersConverterProvider implements ConverterProvider {
+final class ConvertersConverterProvider implements ConverterProvider,
+    HasConverterProviderFootprint {
 
     /**
      * Singleton
@@ -44,28 +44,21 @@ final class ConvertersConverterProvider implements ConverterProvider {
 
     private ConvertersConverterProvider() {
         super();
+    }
 
-        this.infos = ConverterInfoSet.with(
+    /**
+     * The elements are the shared {@link ConverterInfoBuiltins} instances.
+     */
+    private static ConverterInfoSet converterInfos0() {
+        return ConverterInfoSet.with(
             Sets.readOnly(
-                ConverterName.NAME_TO_FACTORY.keySet()
+                ConverterInfoBuiltins.infos()
                     .stream()
-                    .map(ConvertersConverterProvider::nameToConverterInfo)
                     .collect(Collectors.toCollection(SortedSets::tree))
             )
         );
     }
 
-    private static ConverterInfo nameToConverterInfo(final ConverterName name) {
-        return ConverterInfo.with(
-            ConverterProviders.BASE_URL.appendPath(
-                UrlPath.parse(
-                    name.value()
-                )
-            ),
-            name
-        );
-    }
-
     @Override
     public <C extends ConverterContext> Converter<C> converter(final ConverterSelector selector,
                                                                final ProviderContext context) {
@@ -85,6 +78,27 @@ final class ConvertersConverterProvider implements ConverterProvider {
         Objects.requireNonNull(values, "values");
         Objects.requireNonNull(context, "context");
 
+        final ConverterEventListener listener = ConverterEvents.listener();
+        return null == listener ?
+            converter0(
+                name,
+                values
+            ) :
+            ConverterEvents.record(
+                listener,
+                ConverterEventKind.CONVERTERS_CONVERTER,
+                name.value(),
+                name,
+                false, // cacheHit
+                () -> ConvertersConverterProvider.<C>converter0(
+                    name,
+                    values
+                )
+            );
+    }
+
+    private static <C extends ConverterContext> Converter<C> converter0(final ConverterName name,
+                                                                        final List<?> values) {
         final Function<List<?>, Converter<?>> factory = ConverterName.NAME_TO_FACTORY.get(name);
         if (null == factory) {
             throw new IllegalArgumentException("Unknown converter " + name);
@@ -97,12 +111,33 @@ final class ConvertersConverterProvider implements ConverterProvider {
         );
     }
 
+    /**
+     * The {@link ConverterInfoSet} is only built when first requested. Racing threads may each build an equal
+     * {@link ConverterInfoSet}, which is harmless as all are equal and immutable.
+     */
     @Override
     public ConverterInfoSet converterInfos() {
-        return this.infos;
+        ConverterInfoSet infos = this.infos;
+        if (null == infos) {
+            infos = converterInfos0();
+            this.infos = infos;
+        }
+        return infos;
     }
 
-    private final ConverterInfoSet infos;
+    private volatile ConverterInfoSet infos;
+
+    // HasConverterProviderFootprint....................................................................................
+
+    @Override
+    public ConverterProviderFootprint converterProviderFootprint() {
+        // singleton, the infos are the shared builtins, counted without building the lazy ConverterInfoSet
+        return ConverterProviderFootprint.with(
+            this,
+            ConverterName.NAME_TO_FACTORY.size(),
+            0
+        );
+    }
 
     @Override
     public String toString() {
@@ -27,7 +27,8 @@ import java.util.Objects;
 /**
  * A {@link ConverterProvider} that is empty without any {@link Converter}.
  */
-final class EmptyConverterProvider implements ConverterProvider {
+final class EmptyConverterProvider implements ConverterProvider,
+    HasConverterProviderFootprint {
 
     final static EmptyConverterProvider INSTANCE = new EmptyConverterProvider();
 
@@ -59,6 +60,18 @@ final class EmptyConverterProvider implements ConverterProvider {
         return ConverterInfoSet.EMPTY;
     }
 
+    // HasConverterProviderFootprint....................................................................................
+
+    @Override
+    public ConverterProviderFootprint converterProviderFootprint() {
+        // singleton
+        return ConverterProviderFootprint.with(
+            this,
+            0,
+            0
+        );
+    }
+
     @Override
     public String toString() {
         return this.getClass().getSimpleName();
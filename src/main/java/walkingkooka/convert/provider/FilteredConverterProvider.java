@@ -24,11 +24,13 @@ import walkingkooka.plugin.ProviderContext;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * A {@link ConverterProvider} that provides {@link Converter} from one provider but lists more {@link ConverterInfo}.
  */
-final class FilteredConverterProvider implements ConverterProvider {
+final class FilteredConverterProvider implements ConverterProvider,
+    HasConverterProviderFootprint {
 
     static FilteredConverterProvider with(final ConverterProvider provider,
                                           final ConverterInfoSet infos) {
@@ -40,10 +42,17 @@ final class FilteredConverterProvider implements ConverterProvider {
 
     private FilteredConverterProvider(final ConverterProvider provider,
                                       final ConverterInfoSet infos) {
-        this.guard = FilteredProviderGuard.with(
-            infos.names(),
-            ConverterPluginHelper.INSTANCE
-        );
+        final Set<ConverterName> names = infos.names();
+
+        // names from the builtin constants only need a bitset
+        final ConverterNameBitSetGuard builtinGuard = ConverterNameBitSetGuard.tryWith(names);
+        this.builtinGuard = builtinGuard;
+        this.guard = null != builtinGuard ?
+            null :
+            FilteredProviderGuard.with(
+                names,
+                ConverterPluginHelper.INSTANCE
+            );
         this.provider = provider;
         this.infos = infos;
     }
@@ -65,13 +74,25 @@ final class FilteredConverterProvider implements ConverterProvider {
         Objects.requireNonNull(values, "values");
         Objects.requireNonNull(context, "context");
 
+        final ConverterNameBitSetGuard builtinGuard = this.builtinGuard;
+
         return this.provider.converter(
-            this.guard.name(name),
+            null != builtinGuard ?
+                builtinGuard.name(name) :
+                this.guard.name(name),
             values,
             context
         );
     }
 
+    /**
+     * Used when all the names are {@link ConverterName} constants, otherwise null.
+     */
+    private final ConverterNameBitSetGuard builtinGuard;
+
+    /**
+     * Used when some names are not {@link ConverterName} constants, otherwise null.
+     */
     private final FilteredProviderGuard<ConverterName, ConverterSelector> guard;
 
     private final ConverterProvider provider;
@@ -83,6 +104,27 @@ final class FilteredConverterProvider implements ConverterProvider {
 
     private final ConverterInfoSet infos;
 
+    // HasConverterProviderFootprint....................................................................................
+
+    @Override
+    public ConverterProviderFootprint converterProviderFootprint() {
+        final ConverterInfoSet infos = this.infos;
+        final int count = infos.size();
+
+        // the guard holds a bitset or a set of the names
+        final ConverterNameBitSetGuard builtinGuard = this.builtinGuard;
+        return ConverterProviderFootprint.with(
+            this,
+            count,
+            ConverterProviderFootprint.OBJECT * 2 +
+                ConverterProviderFootprint.infos(infos) +
+                (null != builtinGuard ?
+                    builtinGuard.bytes() :
+                    ConverterProviderFootprint.entries(count)),
+            this.provider
+        );
+    }
+
     @Override
     public String toString() {
         return this.provider.toString();
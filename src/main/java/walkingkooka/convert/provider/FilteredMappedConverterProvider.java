@@ -28,7 +28,8 @@ import java.util.Objects;
 /**
  * A {@link ConverterProvider} that wraps a view of new {@link ConverterName} to a wrapped {@link ConverterProvider}.
  */
-final class FilteredMappedConverterProvider implements ConverterProvider {
+final class FilteredMappedConverterProvider implements ConverterProvider,
+    HasConverterProviderFootprint {
 
     static FilteredMappedConverterProvider with(final ConverterInfoSet infos,
                                                 final ConverterProvider provider) {
@@ -89,6 +90,24 @@ final class FilteredMappedConverterProvider implements ConverterProvider {
 
     private final FilteredProviderMapper<ConverterName, ConverterInfo, ConverterInfoSet, ConverterSelector, ConverterAlias, ConverterAliasSet> mapper;
 
+    // HasConverterProviderFootprint....................................................................................
+
+    @Override
+    public ConverterProviderFootprint converterProviderFootprint() {
+        final ConverterInfoSet infos = this.mapper.infos();
+        final int count = infos.size();
+
+        // the mapper holds maps of names in both directions
+        return ConverterProviderFootprint.with(
+            this,
+            count,
+            ConverterProviderFootprint.OBJECT * 2 +
+                ConverterProviderFootprint.infos(infos) +
+                ConverterProviderFootprint.entries(count) * 2,
+            this.provider
+        );
+    }
+
     @Override
     public String toString() {
         return this.mapper.toString();
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.Either;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link Converter} that counts {@link #canConvert(Object, Class, ConverterContext)} and
+ * {@link #convert(Object, Class, ConverterContext)} calls, and times one in every {@link #sampleRate} convert calls
+ * before delegating to the wrapped {@link Converter}. A null value is recorded with a source type of {@link Void}.
+ * <br>
+ * The sampling countdown is a plain field shared by all threads, a lost update only moves which call is timed. The
+ * counter of the last source and target type pair is remembered, so repeated calls with the same types skip the
+ * registry map lookups.
+ */
+final class InstrumentedConverter<C extends ConverterContext> implements Converter<C> {
+
+    static <C extends ConverterContext> InstrumentedConverter<C> with(final Converter<C> converter,
+                                                                      final Map<Class<?>, Map<Class<?>, ConverterConversionCounter>> counters,
+                                                                      final int sampleRate) {
+        return new InstrumentedConverter<>(
+            Objects.requireNonNull(converter, "converter"),
+            Objects.requireNonNull(counters, "counters"),
+            sampleRate
+        );
+    }
+
+    private InstrumentedConverter(final Converter<C> converter,
+                                  final Map<Class<?>, Map<Class<?>, ConverterConversionCounter>> counters,
+                                  final int sampleRate) {
+        this.converter = converter;
+        this.counters = counters;
+        this.sampleRate = sampleRate;
+        this.countdown = 1; // time the first call
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        this.counter(
+            value,
+            type
+        ).canConvert(this.countdown);
+
+        return this.converter.canConvert(
+            value,
+            type,
+            context
+        );
+    }
+
+    @Override
+    public <T> Either<T, String> convert(final Object value,
+                                         final Class<T> type,
+                                         final C context) {
+        final ConverterConversionCounter counter = this.counter(
+            value,
+            type
+        );
+
+        int countdown = this.countdown - 1;
+        final boolean sample = countdown <= 0;
+        if (sample) {
+            countdown = this.sampleRate;
+        }
+        this.countdown = countdown;
+
+        final long start = sample ?
+            System.nanoTime() :
+            0;
+
+        boolean success = false;
+        try {
+            final Either<T, String> result = this.converter.convert(
+                value,
+                type,
+                context
+            );
+            success = result.isLeft();
+            return result;
+        } finally {
+            counter.convert(
+                countdown,
+                success
+            );
+            if (sample) {
+                counter.sample(
+                    countdown,
+                    System.nanoTime() - start
+                );
+            }
+        }
+    }
+
+    private ConverterConversionCounter counter(final Object value,
+                                               final Class<?> type) {
+        final Class<?> source = null == value ?
+            Void.class :
+            value.getClass();
+
+        // a single read, the holder is immutable so a racing write only causes a map lookup
+        InstrumentedConverterLast last = this.last;
+        if (null == last || source != last.source || type != last.target) {
+            last = new InstrumentedConverterLast(
+                source,
+                type,
+                ConverterConversionRegistry.counter(
+                    this.counters,
+                    source,
+                    type
+                )
+            );
+            this.last = last;
+        }
+        return last.counter;
+    }
+
+    private final Converter<C> converter;
+
+    private final Map<Class<?>, Map<Class<?>, ConverterConversionCounter>> counters;
+
+    /**
+     * Only one in this many convert calls is timed.
+     */
+    private final int sampleRate;
+
+    /**
+     * The number of convert calls left until the next timed call. Deliberately not atomic.
+     */
+    private int countdown;
+
+    private InstrumentedConverterLast last;
+
+    /**
+     * The {@link ConverterConversionCounter} for the last source and target type pair.
+     */
+    private static final class InstrumentedConverterLast {
+
+        InstrumentedConverterLast(final Class<?> source,
+                                  final Class<?> target,
+                                  final ConverterConversionCounter counter) {
+            this.source = source;
+            this.target = target;
+            this.counter = counter;
+        }
+
+        final Class<?> source;
+
+        final Class<?> target;
+
+        final ConverterConversionCounter counter;
+    }
+
+    @Override
+    public String toString() {
+        return this.converter.toString();
+    }
+}
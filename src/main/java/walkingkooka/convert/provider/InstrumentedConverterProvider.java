@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.plugin.ProviderContext;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link ConverterProvider} that wraps every resolved {@link Converter} so its runtime calls are recorded in a
+ * {@link ConverterConversionRegistry}. Selectors are evaluated against this provider, so converters for nested
+ * {@link ConverterName} are also wrapped. Only one in every sample rate convert calls is timed.
+ */
+final class InstrumentedConverterProvider implements ConverterProvider,
+    HasConverterProviderFootprint {
+
+    static InstrumentedConverterProvider with(final ConverterProvider provider,
+                                              final ConverterConversionRegistry registry,
+                                              final int sampleRate) {
+        Objects.requireNonNull(provider, "provider");
+        Objects.requireNonNull(registry, "registry");
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Invalid sampleRate " + sampleRate + " <= 0");
+        }
+
+        return new InstrumentedConverterProvider(
+            provider,
+            registry,
+            sampleRate
+        );
+    }
+
+    private InstrumentedConverterProvider(final ConverterProvider provider,
+                                          final ConverterConversionRegistry registry,
+                                          final int sampleRate) {
+        this.provider = provider;
+        this.registry = registry;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public <C extends ConverterContext> Converter<C> converter(final ConverterSelector selector,
+                                                               final ProviderContext context) {
+        Objects.requireNonNull(selector, "selector");
+
+        return selector.evaluateValueText(
+            this,
+            context
+        );
+    }
+
+    @Override
+    public <C extends ConverterContext> Converter<C> converter(final ConverterName name,
+                                                               final List<?> values,
+                                                               final ProviderContext context) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(context, "context");
+
+        return this.instrument(
+            name,
+            this.provider.converter(
+                name,
+                values,
+                context
+            )
+        );
+    }
+
+    private <C extends ConverterContext> Converter<C> instrument(final ConverterName name,
+                                                                 final Converter<C> converter) {
+        return InstrumentedConverter.with(
+            converter,
+            this.registry.counters(name),
+            this.sampleRate
+        );
+    }
+
+    private final ConverterProvider provider;
+
+    private final ConverterConversionRegistry registry;
+
+    private final int sampleRate;
+
+    @Override
+    public ConverterInfoSet converterInfos() {
+        return this.provider.converterInfos();
+    }
+
+    // HasConverterProviderFootprint....................................................................................
+
+    @Override
+    public ConverterProviderFootprint converterProviderFootprint() {
+        final int count = this.registry.size();
+
+        return ConverterProviderFootprint.with(
+            this,
+            count,
+            ConverterProviderFootprint.OBJECT +
+                ConverterProviderFootprint.entries(count) +
+                (long) ConverterProviderFootprint.OBJECT * 2 * count,
+            this.provider
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.provider.toString();
+    }
+}
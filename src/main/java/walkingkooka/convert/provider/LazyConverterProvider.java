@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.plugin.ProviderContext;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ConverterProvider} that advertises a precomputed {@link ConverterInfoSet} and only invokes the
+ * {@link Supplier} to create the real {@link ConverterProvider} on the first request for one of its names. The
+ * {@link Supplier} is invoked at most once even when several threads make their first request together.
+ */
+final class LazyConverterProvider implements ConverterProvider,
+    HasConverterProviderFootprint {
+
+    static LazyConverterProvider with(final ConverterInfoSet infos,
+                                      final Supplier<ConverterProvider> provider) {
+        return new LazyConverterProvider(
+            Objects.requireNonNull(infos, "infos"),
+            Objects.requireNonNull(provider, "provider")
+        );
+    }
+
+    private LazyConverterProvider(final ConverterInfoSet infos,
+                                  final Supplier<ConverterProvider> supplier) {
+        this.infos = infos;
+        this.supplier = supplier;
+    }
+
+    @Override
+    public <C extends ConverterContext> Converter<C> converter(final ConverterSelector selector,
+                                                               final ProviderContext context) {
+        Objects.requireNonNull(selector, "selector");
+
+        return selector.evaluateValueText(
+            this,
+            context
+        );
+    }
+
+    @Override
+    public <C extends ConverterContext> Converter<C> converter(final ConverterName name,
+                                                               final List<?> values,
+                                                               final ProviderContext context) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(context, "context");
+
+        if (false == this.infos.names().contains(name)) {
+            throw ConverterPluginHelper.INSTANCE.unknownName()
+                .apply(name);
+        }
+
+        return this.provider()
+            .converter(
+                name,
+                values,
+                context
+            );
+    }
+
+    /**
+     * Returns the real {@link ConverterProvider}, invoking the {@link Supplier} on the first call.
+     */
+    private ConverterProvider provider() {
+        ConverterProvider provider = this.provider;
+        if (null == provider) {
+            synchronized (this.lock) {
+                provider = this.provider;
+                if (null == provider) {
+                    provider = Objects.requireNonNull(
+                        this.supplier.get(),
+                        "provider"
+                    );
+                    this.provider = provider;
+                }
+            }
+        }
+        return provider;
+    }
+
+    private final Supplier<ConverterProvider> supplier;
+
+    /**
+     * Private so a caller that synchronizes on the {@link Supplier} or this provider cannot block the first request.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The real {@link ConverterProvider}, null until the first request.
+     */
+    private volatile ConverterProvider provider;
+
+    @Override
+    public ConverterInfoSet converterInfos() {
+        return this.infos;
+    }
+
+    private final ConverterInfoSet infos;
+
+    // HasConverterProviderFootprint....................................................................................
+
+    @Override
+    public ConverterProviderFootprint converterProviderFootprint() {
+        final ConverterInfoSet infos = this.infos;
+        final int count = infos.size();
+        final long bytes = ConverterProviderFootprint.OBJECT +
+            ConverterProviderFootprint.infos(infos);
+
+        // only includes the provider if it has been created
+        final ConverterProvider provider = this.provider;
+        return null == provider ?
+            ConverterProviderFootprint.with(
+                this,
+                count,
+                bytes
+            ) :
+            ConverterProviderFootprint.with(
+                this,
+                count,
+                bytes,
+                provider
+            );
+    }
+
+    @Override
+    public String toString() {
+        return this.infos.toString();
+    }
+}
@@ -28,7 +28,8 @@ import java.util.Objects;
 /**
  * A {@link ConverterProvider} that supports renaming {@link ConverterName} before invoking a wrapped {@link ConverterProvider}.
  */
-final class MergedMappedConverterProvider implements ConverterProvider {
+final class MergedMappedConverterProvider implements ConverterProvider,
+    HasConverterProviderFootprint {
 
     static MergedMappedConverterProvider with(final ConverterInfoSet infos,
                                               final ConverterProvider provider) {
@@ -89,6 +90,24 @@ final class MergedMappedConverterProvider implements ConverterProvider {
 
     private final MergedProviderMapper<ConverterName, ConverterInfo, ConverterInfoSet, ConverterSelector, ConverterAlias, ConverterAliasSet> mapper;
 
+    // HasConverterProviderFootprint....................................................................................
+
+    @Override
+    public ConverterProviderFootprint converterProviderFootprint() {
+        final ConverterInfoSet infos = this.mapper.infos();
+        final int count = infos.size();
+
+        // the mapper holds maps of names in both directions
+        return ConverterProviderFootprint.with(
+            this,
+            count,
+            ConverterProviderFootprint.OBJECT * 2 +
+                ConverterProviderFootprint.infos(infos) +
+                ConverterProviderFootprint.entries(count) * 2,
+            this.provider
+        );
+    }
+
     @Override
     public String toString() {
         return this.mapper.toString();
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.plugin.ProviderContext;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link ConverterProvider} that records the count, failures and latency of every {@link Converter} resolution by
+ * {@link ConverterName} into a {@link ConverterMetricRegistry}. Selectors are evaluated against this provider, so each
+ * nested {@link ConverterName} is also recorded, with the time of outer names including that of any nested names.
+ */
+final class MeteredConverterProvider implements ConverterProvider,
+    HasConverterProviderFootprint {
+
+    static MeteredConverterProvider with(final ConverterProvider provider,
+                                         final ConverterMetricRegistry registry) {
+        return new MeteredConverterProvider(
+            Objects.requireNonNull(provider, "provider"),
+            Objects.requireNonNull(registry, "registry")
+        );
+    }
+
+    private MeteredConverterProvider(final ConverterProvider provider,
+                                     final ConverterMetricRegistry registry) {
+        this.provider = provider;
+        this.registry = registry;
+    }
+
+    @Override
+    public <C extends ConverterContext> Converter<C> converter(final ConverterSelector selector,
+                                                               final ProviderContext context) {
+        Objects.requireNonNull(selector, "selector");
+
+        return selector.evaluateValueText(
+            this,
+            context
+        );
+    }
+
+    @Override
+    public <C extends ConverterContext> Converter<C> converter(final ConverterName name,
+                                                               final List<?> values,
+                                                               final ProviderContext context) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(context, "context");
+
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final Converter<C> converter = this.provider.converter(
+                name,
+                values,
+                context
+            );
+            success = true;
+            return converter;
+        } finally {
+            this.registry.record(
+                name,
+                start,
+                System.nanoTime(),
+                success
+            );
+        }
+    }
+
+    private final ConverterProvider provider;
+
+    private final ConverterMetricRegistry registry;
+
+    @Override
+    public ConverterInfoSet converterInfos() {
+        return this.provider.converterInfos();
+    }
+
+    // HasConverterProviderFootprint....................................................................................
+
+    @Override
+    public ConverterProviderFootprint converterProviderFootprint() {
+        final int count = this.registry.size();
+
+        return ConverterProviderFootprint.with(
+            this,
+            count,
+            ConverterProviderFootprint.OBJECT +
+                ConverterProviderFootprint.entries(count) +
+                (long) ConverterProviderFootprint.OBJECT * 2 * count,
+            this.provider
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.provider.toString();
+    }
+}
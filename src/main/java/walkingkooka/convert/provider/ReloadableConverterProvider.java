@@ -0,0 +1,183 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.plugin.ProviderContext;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link ConverterProvider} that applies a {@link ConverterAliasSet} to a wrapped {@link ConverterProvider}, where the
+ * {@link ConverterAliasSet} may be replaced at any time using {@link #reload(ConverterAliasSet)}.
+ * <br>
+ * Each {@link ConverterAliasSet} along with its aliases {@link ConverterProvider} forms an immutable generation. Readers
+ * never lock, they read the current generation once and complete against it, even if a reload happens meanwhile.
+ * Reloads build the next generation before publishing it with a single volatile write.
+ */
+public final class ReloadableConverterProvider implements ConverterProvider,
+    HasConverterProviderFootprint {
+
+    public static ReloadableConverterProvider with(final ConverterAliasSet aliases,
+                                                   final ConverterProvider provider) {
+        Objects.requireNonNull(aliases, "aliases");
+        Objects.requireNonNull(provider, "provider");
+
+        return new ReloadableConverterProvider(
+            aliases,
+            provider
+        );
+    }
+
+    private ReloadableConverterProvider(final ConverterAliasSet aliases,
+                                        final ConverterProvider provider) {
+        this.provider = provider;
+        this.generation = new ReloadableConverterProviderGeneration(
+            0,
+            aliases,
+            AliasesConverterProvider.with(
+                aliases,
+                provider
+            )
+        );
+    }
+
+    @Override
+    public <C extends ConverterContext> Converter<C> converter(final ConverterSelector selector,
+                                                               final ProviderContext context) {
+        return this.generation.provider.converter(
+            selector,
+            context
+        );
+    }
+
+    @Override
+    public <C extends ConverterContext> Converter<C> converter(final ConverterName name,
+                                                               final List<?> values,
+                                                               final ProviderContext context) {
+        return this.generation.provider.converter(
+            name,
+            values,
+            context
+        );
+    }
+
+    @Override
+    public ConverterInfoSet converterInfos() {
+        return this.generation.provider.converterInfos();
+    }
+
+    /**
+     * Replaces the {@link ConverterAliasSet}, returning true if it was different and a new generation was published.
+     * Concurrent reloads are serialized, readers are never blocked.
+     */
+    public boolean reload(final ConverterAliasSet aliases) {
+        Objects.requireNonNull(aliases, "aliases");
+
+        synchronized (this.lock) {
+            final ReloadableConverterProviderGeneration current = this.generation;
+
+            final boolean reload = false == current.aliases.equals(aliases);
+            if (reload) {
+                // build the next generation fully before publishing it.
+                this.generation = new ReloadableConverterProviderGeneration(
+                    current.number + 1,
+                    aliases,
+                    AliasesConverterProvider.with(
+                        aliases,
+                        this.provider
+                    )
+                );
+            }
+            return reload;
+        }
+    }
+
+    /**
+     * The current {@link ConverterAliasSet}.
+     */
+    public ConverterAliasSet aliases() {
+        return this.generation.aliases;
+    }
+
+    /**
+     * The current generation, starting at zero and incremented by each {@link #reload(ConverterAliasSet)} that
+     * published new aliases.
+     */
+    public long generation() {
+        return this.generation.number;
+    }
+
+    /**
+     * The wrapped {@link ConverterProvider} shared by all generations.
+     */
+    private final ConverterProvider provider;
+
+    /**
+     * Serializes {@link #reload(ConverterAliasSet)}, private so other wrappers of the same {@link #provider} and outside
+     * code never contend on it.
+     */
+    private final Object lock = new Object();
+
+    private volatile ReloadableConverterProviderGeneration generation;
+
+    // HasConverterProviderFootprint....................................................................................
+
+    @Override
+    public ConverterProviderFootprint converterProviderFootprint() {
+        // the aliases are counted by the AliasesConverterProvider of the current generation
+        return ConverterProviderFootprint.with(
+            this,
+            0,
+            ConverterProviderFootprint.OBJECT * 2,
+            this.generation.provider
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.generation.toString();
+    }
+
+    /**
+     * An immutable generation.
+     */
+    private static final class ReloadableConverterProviderGeneration {
+
+        ReloadableConverterProviderGeneration(final long number,
+                                              final ConverterAliasSet aliases,
+                                              final ConverterProvider provider) {
+            this.number = number;
+            this.aliases = aliases;
+            this.provider = provider;
+        }
+
+        final long number;
+
+        final ConverterAliasSet aliases;
+
+        final ConverterProvider provider;
+
+        @Override
+        public String toString() {
+            return "#" + this.number + " " + this.aliases;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import java.lang.reflect.Method;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+
+/**
+ * A manual benchmark comparing the time taken by {@link ConvertProviderStartup#init()} and
+ * {@link ConvertProviderStartup#initLazy()}, each within a fresh {@link ClassLoader} so all class initialization is
+ * repeated. The median of several runs is printed. It is not part of the test suite, run it with the test classpath:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=walkingkooka.convert.provider.ConvertProviderStartupBenchmark
+ * </pre>
+ */
+public final class ConvertProviderStartupBenchmark {
+
+    private final static int RUNS = 11;
+
+    public static void main(final String[] args) throws Exception {
+        final long eager = startupMedianNanos("init");
+        final long lazy = startupMedianNanos("initLazy");
+
+        System.out.println(
+            ConvertProviderStartup.class.getSimpleName() +
+                " init " + eager / 1000 + "us" +
+                " initLazy " + lazy / 1000 + "us"
+        );
+    }
+
+    private static long startupMedianNanos(final String methodName) throws Exception {
+        final long[] nanos = new long[RUNS];
+
+        for (int i = 0; i < RUNS; i++) {
+            try (final URLClassLoader classLoader = ConvertProviderStartupClassLoader.fresh()) {
+                final Method method = classLoader.loadClass(ConvertProviderStartup.class.getName())
+                    .getMethod(methodName);
+
+                final long start = System.nanoTime();
+                method.invoke(null);
+                nanos[i] = System.nanoTime() - start;
+            }
+        }
+
+        Arrays.sort(nanos);
+        return nanos[RUNS / 2];
+    }
+
+    private ConvertProviderStartupBenchmark() {
+        throw new UnsupportedOperationException();
+    }
+}
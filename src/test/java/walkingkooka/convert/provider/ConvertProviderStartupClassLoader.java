@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * Creates a fresh {@link ClassLoader} using the current classpath, so {@link ConvertProviderStartup} and everything it
+ * initializes can be loaded again without any state left by earlier tests.
+ */
+final class ConvertProviderStartupClassLoader {
+
+    /**
+     * Returns a new {@link URLClassLoader} that does not delegate to the application {@link ClassLoader}.
+     */
+    static URLClassLoader fresh() throws MalformedURLException {
+        return new URLClassLoader(
+            classPath(),
+            ClassLoader.getPlatformClassLoader()
+        );
+    }
+
+    private static URL[] classPath() throws MalformedURLException {
+        final String[] paths = System.getProperty("java.class.path")
+            .split(File.pathSeparator);
+        final URL[] urls = new URL[paths.length];
+
+        for (int i = 0; i < paths.length; i++) {
+            urls[i] = new File(paths[i]).toURI()
+                .toURL();
+        }
+        return urls;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ConvertProviderStartupClassLoader() {
+        throw new UnsupportedOperationException();
+    }
+}
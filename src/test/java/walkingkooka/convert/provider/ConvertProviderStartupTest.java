@@ -1,13 +1,74 @@
 package walkingkooka.convert.provider;
 
+import org.junit.jupiter.api.Test;
 import walkingkooka.net.*;
 import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.reflect.PublicStaticHelperTesting;
 
 import java.lang.reflect.Method;
+import java.net.URLClassLoader;
 
 public final class ConvertProviderStartupTest implements PublicStaticHelperTesting<ConvertProviderStartup> {
 
+    @Test
+    public void testInitLazy() {
+        ConvertProviderStartup.initLazy();
+    }
+
+    @Test
+    public void testInitTwice() {
+        ConvertProviderStartup.init();
+        ConvertProviderStartup.init();
+    }
+
+    @Test
+    public void testInitIsRegistered() {
+        ConvertProviderStartup.init();
+        this.checkEquals(
+            true,
+            ConvertProviderStartup.isRegistered()
+        );
+    }
+
+    /**
+     * Loads {@link ConvertProviderStartup} in a fresh {@link ClassLoader} so the checks do not depend on which other
+     * tests have already run.
+     */
+    @Test
+    public void testInitLazyDoesNotRegisterJsonMarshallers() throws Exception {
+        try (final URLClassLoader classLoader = ConvertProviderStartupClassLoader.fresh()) {
+            final Class<?> startup = classLoader.loadClass(ConvertProviderStartup.class.getName());
+
+            startup.getMethod("initLazy")
+                .invoke(null);
+            this.checkEquals(
+                false,
+                registered(startup),
+                "registered after initLazy"
+            );
+
+            startup.getMethod("init")
+                .invoke(null);
+            this.checkEquals(
+                true,
+                registered(startup),
+                "registered after init"
+            );
+        }
+    }
+
+    /**
+     * Invokes the package private {@link ConvertProviderStartup#isRegistered()}, which requires reflection because the
+     * fresh {@link ClassLoader} puts the class in a different runtime package.
+     */
+    private static boolean registered(final Class<?> startup) throws ReflectiveOperationException {
+        final Method method = startup.getDeclaredMethod("isRegistered");
+        method.setAccessible(true);
+        return (Boolean) method.invoke(null);
+    }
+
+    // class............................................................................................................
+
     @Override
     public boolean canHavePublicTypes(final Method method) {
         return false;
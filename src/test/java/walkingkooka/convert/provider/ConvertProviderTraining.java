@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.plugin.ProviderContext;
+import walkingkooka.plugin.ProviderContexts;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * A training workload that exercises the common startup path, used by the <code>appcds</code> maven profile to record
+ * the classes loaded into a class data sharing archive, and then again to time startup with that archive.
+ * <br>
+ * The time printed is from JVM start until the workload completes, so it includes class loading and linking which is
+ * what an archive saves. Like a short-lived process it uses {@link ConvertProviderStartup#initLazy()}, so only the
+ * value types actually used are loaded and archived.
+ */
+public final class ConvertProviderTraining {
+
+    public static void main(final String[] args) {
+        ConvertProviderStartup.initLazy();
+
+        final ConverterProvider converters = ConverterProviders.converters();
+        final ConverterProvider provider = ConverterProviders.aliases(
+            ConverterAliasSet.parse("simple, number boolean-to-number"),
+            converters
+        );
+        final ProviderContext context = ProviderContexts.fake();
+
+        provider.converterInfos()
+            .size();
+
+        for (final String selector : Lists.of(
+            "simple",
+            "number",
+            "collection (boolean-to-number, character-or-string-to-string)"
+        )) {
+            provider.converter(
+                ConverterSelector.parse(selector),
+                context
+            );
+        }
+
+        System.out.println(
+            ConvertProviderTraining.class.getSimpleName() +
+                " " +
+                (System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime()) +
+                "ms"
+        );
+    }
+
+    private ConvertProviderTraining() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -26,6 +26,9 @@ import walkingkooka.tree.json.JsonNode;
 import walkingkooka.tree.json.marshall.JsonNodeMarshallingTesting;
 import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
 
+import java.util.SortedSet;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -37,7 +40,8 @@ public final class ConverterAliasSetTest implements PluginAliasSetLikeTesting<Co
     ConverterAliasSet>,
     HashCodeEqualsDefinedTesting2<ConverterAliasSet>,
     ToStringTesting<ConverterAliasSet>,
-    JsonNodeMarshallingTesting<ConverterAliasSet> {
+    JsonNodeMarshallingTesting<ConverterAliasSet>,
+    ConverterParseCharSequenceTesting<ConverterAliasSet> {
 
     // with.............................................................................................................
 
@@ -117,6 +121,407 @@ public final class ConverterAliasSetTest implements PluginAliasSetLikeTesting<Co
         return ConverterAliasSet.parse(text);
     }
 
+    // parse CharSequence...............................................................................................
+
+    @Test
+    public void testParseCharSequenceNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterAliasSet.parse((CharSequence) null)
+        );
+    }
+
+    @Test
+    public void testParseCharSequenceEmpty() {
+        this.parseCharSequenceAndCheck("");
+    }
+
+    @Test
+    public void testParseCharSequence() {
+        this.parseCharSequenceAndCheck(
+            "abc, moo, mars, custom-alias custom(1) https://example.com/custom , sunshine-alias sunshine"
+        );
+    }
+
+    @Test
+    public void testParseCharSequenceSelectorWithSeparators() {
+        this.parseCharSequenceAndCheck(
+            "alias1 name1(\"a,b\", 'c', name2(1, 2)) https://example.com/name1, alias3 name3"
+        );
+    }
+
+    @Test
+    public void testParseCharSequenceInvalidFails() {
+        this.parseCharSequenceFailsAndCheck("abc, moo!, mars");
+    }
+
+    @Test
+    public void testParseCharSequenceEmptyEntryFails() {
+        this.parseCharSequenceFailsAndCheck("abc,, mars");
+    }
+
+    @Test
+    public void testParseCharSequenceDuplicate() {
+        this.parseCharSequenceSameAsParseString("abc, mars, abc");
+    }
+
+    @Override
+    public ConverterAliasSet parseText(final String text) {
+        return ConverterAliasSet.parse(text);
+    }
+
+    @Override
+    public ConverterAliasSet parseCharSequence(final CharSequence text) {
+        return ConverterAliasSet.parse(text);
+    }
+
+    // reparse..........................................................................................................
+
+    private final static String REPARSE_TEXT = "abc, moo, custom-alias custom(1, \"x,y\") https://example.com/custom , sunshine-alias sunshine";
+
+    @Test
+    public void testReparseNullTextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterAliasSet.parse(REPARSE_TEXT)
+                .reparse(
+                    null,
+                    0,
+                    0,
+                    ""
+                )
+        );
+    }
+
+    @Test
+    public void testReparseInvalidRangeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterAliasSet.parse(REPARSE_TEXT)
+                .reparse(
+                    REPARSE_TEXT,
+                    2,
+                    1,
+                    ""
+                )
+        );
+    }
+
+    @Test
+    public void testReparseRangeAfterTextFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterAliasSet.parse(REPARSE_TEXT)
+                .reparse(
+                    REPARSE_TEXT,
+                    0,
+                    REPARSE_TEXT.length() + 1,
+                    ""
+                )
+        );
+    }
+
+    @Test
+    public void testReparseNothingChanged() {
+        final ConverterAliasSet set = ConverterAliasSet.parse(REPARSE_TEXT);
+
+        assertSame(
+            set,
+            set.reparse(
+                REPARSE_TEXT,
+                1,
+                1,
+                ""
+            )
+        );
+    }
+
+    @Test
+    public void testReparseRenameAlias() {
+        this.reparseAndCheck(
+            REPARSE_TEXT.indexOf("moo"),
+            REPARSE_TEXT.indexOf("moo") + 3,
+            "moo2"
+        );
+    }
+
+    @Test
+    public void testReparseInsertEntry() {
+        this.reparseAndCheck(
+            REPARSE_TEXT.indexOf(","),
+            REPARSE_TEXT.indexOf(","),
+            ", inserted"
+        );
+    }
+
+    @Test
+    public void testReparseDeleteEntry() {
+        this.reparseAndCheck(
+            REPARSE_TEXT.indexOf(", moo"),
+            REPARSE_TEXT.indexOf(", moo") + 5,
+            ""
+        );
+    }
+
+    @Test
+    public void testReparseEditSelectorArguments() {
+        this.reparseAndCheck(
+            REPARSE_TEXT.indexOf("1,"),
+            REPARSE_TEXT.indexOf("1,") + 1,
+            "22"
+        );
+    }
+
+    @Test
+    public void testReparseEditWithinQuotedSeparator() {
+        this.reparseAndCheck(
+            REPARSE_TEXT.indexOf("x,y"),
+            REPARSE_TEXT.indexOf("x,y") + 3,
+            "a,b,c"
+        );
+    }
+
+    @Test
+    public void testReparseSplitEntry() {
+        this.reparseAndCheck(
+            REPARSE_TEXT.indexOf("moo") + 1,
+            REPARSE_TEXT.indexOf("moo") + 1,
+            "x, mo"
+        );
+    }
+
+    @Test
+    public void testReparseInvalidFails() {
+        this.reparseFailsAndCheck(
+            REPARSE_TEXT.indexOf("moo"),
+            REPARSE_TEXT.indexOf("moo") + 3,
+            "moo!"
+        );
+    }
+
+    @Test
+    public void testReparseEmptyEntryFails() {
+        this.reparseFailsAndCheck(
+            REPARSE_TEXT.indexOf("moo"),
+            REPARSE_TEXT.indexOf("moo") + 3,
+            ""
+        );
+    }
+
+    @Test
+    public void testReparseUnbalancedQuoteFails() {
+        this.reparseFailsAndCheck(
+            REPARSE_TEXT.indexOf("moo"),
+            REPARSE_TEXT.indexOf("moo"),
+            "\""
+        );
+    }
+
+    private void reparseAndCheck(final int start,
+                                 final int end,
+                                 final String replacement) {
+        final ConverterAliasSet set = ConverterAliasSet.parse(REPARSE_TEXT);
+        final String edited = REPARSE_TEXT.substring(0, start) + replacement + REPARSE_TEXT.substring(end);
+
+        final ConverterAliasSet reparsed = set.reparse(
+            REPARSE_TEXT,
+            start,
+            end,
+            replacement
+        );
+
+        this.checkEquals(
+            ConverterAliasSet.parse(edited),
+            reparsed,
+            edited
+        );
+
+        // untouched aliases are reused
+        final ConverterAlias sunshine = set.last();
+        assertSame(
+            sunshine,
+            reparsed.last(),
+            "sunshine-alias"
+        );
+    }
+
+    private void reparseFailsAndCheck(final int start,
+                                      final int end,
+                                      final String replacement) {
+        final String edited = REPARSE_TEXT.substring(0, start) + replacement + REPARSE_TEXT.substring(end);
+
+        final RuntimeException expected = assertThrows(
+            RuntimeException.class,
+            () -> ConverterAliasSet.parse(edited)
+        );
+        final RuntimeException thrown = assertThrows(
+            RuntimeException.class,
+            () -> ConverterAliasSet.parse(REPARSE_TEXT)
+                .reparse(
+                    REPARSE_TEXT,
+                    start,
+                    end,
+                    replacement
+                )
+        );
+
+        this.checkEquals(
+            expected.getMessage(),
+            thrown.getMessage(),
+            edited
+        );
+    }
+
+    // unchanged........................................................................................................
+
+    @Test
+    public void testConcatExistingSame() {
+        final ConverterAliasSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.concat(set.first())
+        );
+    }
+
+    @Test
+    public void testConcatAllExistingSame() {
+        final ConverterAliasSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.concatAll(set)
+        );
+    }
+
+    @Test
+    public void testConcatOrReplaceExistingSame() {
+        final ConverterAliasSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.concatOrReplace(set.last())
+        );
+    }
+
+    @Test
+    public void testConcatSameNameDifferentTarget() {
+        final ConverterAliasSet set = ConverterAliasSet.parse("alias1 simple, alias2 boolean-to-number");
+        final ConverterAlias alias = ConverterAliasSet.parse("alias1 to-text")
+            .first();
+
+        final ConverterAliasSet concat = set.concat(alias);
+        assertNotSame(
+            set,
+            concat
+        );
+        this.checkEquals(
+            true,
+            concat.stream()
+                .anyMatch(alias::equals),
+            concat + " contains " + alias
+        );
+    }
+
+    @Test
+    public void testConcatAllSameNameDifferentTarget() {
+        final ConverterAliasSet set = ConverterAliasSet.parse("alias1 simple, alias2 boolean-to-number");
+
+        assertNotSame(
+            set,
+            set.concatAll(
+                ConverterAliasSet.parse("alias1 to-text, alias2 boolean-to-number")
+            )
+        );
+    }
+
+    @Test
+    public void testConcatOrReplaceSameNameDifferentTarget() {
+        final ConverterAliasSet set = ConverterAliasSet.parse("alias1 simple, alias2 boolean-to-number");
+
+        this.checkEquals(
+            ConverterAliasSet.parse("alias1 to-text, alias2 boolean-to-number"),
+            set.concatOrReplace(
+                ConverterAliasSet.parse("alias1 to-text")
+                    .first()
+            )
+        );
+    }
+
+    @Test
+    public void testConcatOrReplaceSameNameDifferentUrl() {
+        final ConverterAliasSet set = ConverterAliasSet.parse("custom-alias custom https://example.com/custom");
+
+        this.checkEquals(
+            ConverterAliasSet.parse("custom-alias custom https://example.com/custom2"),
+            set.concatOrReplace(
+                ConverterAliasSet.parse("custom-alias custom https://example.com/custom2")
+                    .first()
+            )
+        );
+    }
+
+    @Test
+    public void testDeleteAbsentSame() {
+        final ConverterAliasSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.delete(
+                ConverterAliasSet.parse("absent")
+                    .first()
+            )
+        );
+    }
+
+    @Test
+    public void testDeleteAllAbsentSame() {
+        final ConverterAliasSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.deleteAll(
+                ConverterAliasSet.parse("absent1, absent2")
+            )
+        );
+    }
+
+    @Test
+    public void testReplaceSameSame() {
+        final ConverterAliasSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.replace(
+                set.first(),
+                set.first()
+            )
+        );
+    }
+
+    @Test
+    public void testSetElementsEqualConverterAliasSetSame() {
+        final ConverterAliasSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.setElements(
+                ConverterAliasSet.parse(set.text())
+            )
+        );
+    }
+
+    @Test
+    public void testSetElementsDifferentConverterAliasSetShared() {
+        final ConverterAliasSet different = ConverterAliasSet.parse("different");
+
+        assertSame(
+            different,
+            this.createSet()
+                .setElements(different)
+        );
+    }
+
     // equals...........................................................................................................
 
     @Test
@@ -126,6 +531,37 @@ public final class ConverterAliasSetTest implements PluginAliasSetLikeTesting<Co
         );
     }
 
+    @Test
+    public void testEqualsSortedSet() {
+        final ConverterAliasSet set = this.createObject();
+
+        final SortedSet<ConverterAlias> sortedSet = SortedSets.tree();
+        sortedSet.addAll(set);
+
+        this.checkEquals(
+            sortedSet,
+            set
+        );
+    }
+
+    // contentHash......................................................................................................
+
+    @Test
+    public void testContentHashEqual() {
+        this.checkEquals(
+            this.createObject().contentHash(),
+            this.createObject().contentHash()
+        );
+    }
+
+    @Test
+    public void testContentHashDifferent() {
+        this.checkNotEquals(
+            this.createObject().contentHash(),
+            ConverterAliasSet.parse("different").contentHash()
+        );
+    }
+
     @Override
     public ConverterAliasSet createObject() {
         return ConverterAliasSet.parse("abc, custom-alias custom(1) https://example.com/custom");
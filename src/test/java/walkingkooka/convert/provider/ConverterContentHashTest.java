@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ConverterContentHashTest implements ClassTesting<ConverterContentHash> {
+
+    @Test
+    public void testHashEmpty() {
+        this.checkEquals(
+            0L,
+            ConverterContentHash.hash(Lists.empty())
+        );
+    }
+
+    @Test
+    public void testHashOrderIndependent() {
+        this.checkEquals(
+            ConverterContentHash.hash(Lists.of("a1", "b2", "c3")),
+            ConverterContentHash.hash(Lists.of("c3", "a1", "b2"))
+        );
+    }
+
+    @Test
+    public void testHashDifferent() {
+        this.checkNotEquals(
+            ConverterContentHash.hash(Lists.of("a1", "b2")),
+            ConverterContentHash.hash(Lists.of("a1", "b3"))
+        );
+    }
+
+    @Test
+    public void testHashDuplicatesDontCancel() {
+        this.checkNotEquals(
+            0L,
+            ConverterContentHash.hash(Lists.of("a1", "a1"))
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterContentHash> type() {
+        return ConverterContentHash.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ConverterConversionMetricTest implements ClassTesting<ConverterConversionMetric>,
+    HashCodeEqualsDefinedTesting2<ConverterConversionMetric>,
+    ToStringTesting<ConverterConversionMetric> {
+
+    @Test
+    public void testConvertSuccessCount() {
+        this.checkEquals(
+            8L,
+            this.createObject()
+                .convertSuccessCount()
+        );
+    }
+
+    @Test
+    public void testEstimatedNanos() {
+        this.checkEquals(
+            500L,
+            this.createObject()
+                .estimatedNanos()
+        );
+    }
+
+    @Test
+    public void testEstimatedNanosWithoutSamples() {
+        this.checkEquals(
+            0L,
+            ConverterConversionMetric.with(
+                1,
+                10,
+                2,
+                0,
+                0
+            ).estimatedNanos()
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentConvertCount() {
+        this.checkNotEquals(
+            ConverterConversionMetric.with(
+                1,
+                11,
+                2,
+                2,
+                100
+            )
+        );
+    }
+
+    @Override
+    public ConverterConversionMetric createObject() {
+        return ConverterConversionMetric.with(
+            1,
+            10,
+            2,
+            2,
+            100
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "canConvert=1 convert=10 failures=2 samples=2 sampleNanos=100"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterConversionMetric> type() {
+        return ConverterConversionMetric.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterConversionRegistryTest implements ClassTesting<ConverterConversionRegistry> {
+
+    @Test
+    public void testMetricWithNullNameFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterConversionRegistry.create()
+                .metric(
+                    null,
+                    String.class,
+                    String.class
+                )
+        );
+    }
+
+    @Test
+    public void testMetricUnrecordedDoesNotCreateCounters() {
+        final ConverterConversionRegistry registry = ConverterConversionRegistry.create();
+
+        this.checkEquals(
+            0L,
+            registry.metric(
+                ConverterName.SIMPLE,
+                String.class,
+                String.class
+            ).convertCount(),
+            "convertCount"
+        );
+        this.checkEquals(
+            Maps.empty(),
+            registry.snapshot(),
+            "snapshot"
+        );
+    }
+
+    @Test
+    public void testCounterSameInstance() {
+        final ConverterConversionRegistry registry = ConverterConversionRegistry.create();
+        final Map<Class<?>, Map<Class<?>, ConverterConversionCounter>> counters = registry.counters(ConverterName.SIMPLE);
+
+        this.checkEquals(
+            true,
+            ConverterConversionRegistry.counter(counters, String.class, Integer.class) ==
+                ConverterConversionRegistry.counter(counters, String.class, Integer.class)
+        );
+    }
+
+    @Test
+    public void testSnapshot() {
+        final ConverterConversionRegistry registry = ConverterConversionRegistry.create();
+
+        final ConverterConversionCounter counter = ConverterConversionRegistry.counter(
+            registry.counters(ConverterName.SIMPLE),
+            String.class,
+            Integer.class
+        );
+        counter.canConvert();
+        counter.convert(true);
+        counter.sample(100);
+
+        this.checkEquals(
+            Maps.of(
+                ConverterName.SIMPLE,
+                Maps.of(
+                    "java.lang.String -> java.lang.Integer",
+                    ConverterConversionMetric.with(
+                        1,
+                        1,
+                        0,
+                        1,
+                        100
+                    )
+                )
+            ),
+            registry.snapshot()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterConversionRegistry> type() {
+        return ConverterConversionRegistry.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
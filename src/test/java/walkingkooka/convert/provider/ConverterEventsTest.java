@@ -0,0 +1,240 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.plugin.ProviderContext;
+import walkingkooka.plugin.ProviderContexts;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterEventsTest implements ClassTesting<ConverterEvents> {
+
+    private final static ConverterProvider PROVIDER = ConverterProviders.converters();
+
+    private final static ProviderContext CONTEXT = ProviderContexts.fake();
+
+    @AfterEach
+    public void afterEach() {
+        ConverterEvents.clearListener();
+    }
+
+    @Test
+    public void testSetListenerNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterEvents.setListener(null)
+        );
+    }
+
+    @Test
+    public void testListenerDefaultNull() {
+        this.checkEquals(
+            null,
+            ConverterEvents.listener()
+        );
+    }
+
+    @Test
+    public void testClearListener() {
+        ConverterEvents.setListener(new TestConverterEventListener());
+        ConverterEvents.clearListener();
+
+        this.checkEquals(
+            null,
+            ConverterEvents.listener()
+        );
+    }
+
+    @Test
+    public void testSelectorEvaluateValueText() {
+        final TestConverterEventListener listener = new TestConverterEventListener();
+        ConverterEvents.setListener(listener);
+
+        ConverterSelector.parse("boolean-to-number")
+            .evaluateValueText(
+                PROVIDER,
+                CONTEXT
+            );
+
+        this.checkEquals(
+            Lists.of(
+                "begin",
+                "end CONVERTERS_CONVERTER boolean-to-number boolean-to-number depth=1 cacheHit=false success=true",
+                "end SELECTOR_EVALUATE_VALUE_TEXT boolean-to-number boolean-to-number depth=0 cacheHit=false success=true"
+            ),
+            listener.events
+        );
+    }
+
+    @Test
+    public void testSelectorEvaluateValueTextCacheHit() {
+        final ConverterSelector selector = ConverterSelector.parse("boolean-to-number");
+        selector.evaluateValueText(
+            PROVIDER,
+            CONTEXT
+        );
+
+        final TestConverterEventListener listener = new TestConverterEventListener();
+        ConverterEvents.setListener(listener);
+
+        selector.evaluateValueText(
+            PROVIDER,
+            CONTEXT
+        );
+
+        this.checkEquals(
+            Lists.of(
+                "begin",
+                "end CONVERTERS_CONVERTER boolean-to-number boolean-to-number depth=1 cacheHit=false success=true",
+                "end SELECTOR_EVALUATE_VALUE_TEXT boolean-to-number boolean-to-number depth=0 cacheHit=true success=true"
+            ),
+            listener.events
+        );
+    }
+
+    @Test
+    public void testSelectorEvaluateValueTextNested() {
+        final TestConverterEventListener listener = new TestConverterEventListener();
+        ConverterEvents.setListener(listener);
+
+        ConverterSelector.parse("collection (simple)")
+            .evaluateValueText(
+                PROVIDER,
+                CONTEXT
+            );
+
+        this.checkEquals(
+            Lists.of(
+                "begin",
+                "end CONVERTERS_CONVERTER simple simple depth=2 cacheHit=false success=true",
+                "end CONVERTERS_CONVERTER collection collection depth=1 cacheHit=false success=true",
+                "end SELECTOR_EVALUATE_VALUE_TEXT collection (simple) collection depth=0 cacheHit=false success=true"
+            ),
+            listener.events
+        );
+    }
+
+    @Test
+    public void testConverterUnknownFails() {
+        final TestConverterEventListener listener = new TestConverterEventListener();
+        ConverterEvents.setListener(listener);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> PROVIDER.converter(
+                ConverterName.with("unknown-404"),
+                Lists.empty(),
+                CONTEXT
+            )
+        );
+
+        this.checkEquals(
+            Lists.of(
+                "begin",
+                "end CONVERTERS_CONVERTER unknown-404 unknown-404 depth=0 cacheHit=false success=false"
+            ),
+            listener.events
+        );
+    }
+
+    @Test
+    public void testExecutorCacheHit() {
+        final ConverterExecutor executor = ConverterExecutor.with(
+            PROVIDER,
+            CONTEXT,
+            Runnable::run
+        );
+        final ConverterSelector selector = ConverterSelector.parse("simple");
+        executor.converter(selector).join();
+
+        final TestConverterEventListener listener = new TestConverterEventListener();
+        ConverterEvents.setListener(listener);
+
+        executor.converter(selector).join();
+
+        this.checkEquals(
+            Lists.of(
+                "begin",
+                "end EXECUTOR_CONVERTER simple simple depth=0 cacheHit=true success=true"
+            ),
+            listener.events
+        );
+    }
+
+    /**
+     * Records a line for each outermost {@link #begin()} and every {@link #end(ConverterEventKind, String, Optional, long, boolean, boolean)}.
+     */
+    static final class TestConverterEventListener implements ConverterEventListener {
+
+        @Override
+        public void begin() {
+            if (0 == this.depth) {
+                this.events.add("begin");
+            }
+            this.depth++;
+        }
+
+        @Override
+        public void end(final ConverterEventKind kind,
+                        final String text,
+                        final Optional<ConverterName> name,
+                        final long nanos,
+                        final boolean cacheHit,
+                        final boolean success) {
+            this.depth--;
+            this.events.add(
+                "end " +
+                    kind +
+                    " " +
+                    text +
+                    " " +
+                    name.map(ConverterName::value).orElse("") +
+                    " depth=" +
+                    this.depth +
+                    " cacheHit=" +
+                    cacheHit +
+                    " success=" +
+                    success
+            );
+        }
+
+        private int depth;
+
+        final List<String> events = Lists.array();
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterEvents> type() {
+        return ConverterEvents.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.convert.ConverterContexts;
+import walkingkooka.convert.Converters;
+import walkingkooka.plugin.ProviderContext;
+import walkingkooka.plugin.ProviderContexts;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterExecutorTest implements ClassTesting<ConverterExecutor>,
+    ToStringTesting<ConverterExecutor> {
+
+    private final static ConverterProvider PROVIDER = ConverterProviders.converters();
+
+    private final static ProviderContext CONTEXT = ProviderContexts.fake();
+
+    private final static ConverterContext CONVERTER_CONTEXT = ConverterContexts.fake();
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithNullProviderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterExecutor.with(
+                null,
+                CONTEXT,
+                Runnable::run
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterExecutor.with(
+                PROVIDER,
+                null,
+                Runnable::run
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullExecutorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterExecutor.with(
+                PROVIDER,
+                CONTEXT,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithInvalidCacheCapacityFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterExecutor.with(
+                PROVIDER,
+                CONTEXT,
+                Runnable::run,
+                0
+            )
+        );
+    }
+
+    // converter........................................................................................................
+
+    @Test
+    public void testConverter() {
+        this.checkEquals(
+            Converters.booleanToNumber(),
+            this.createExecutor()
+                .converter(ConverterSelector.parse("boolean-to-number"))
+                .join()
+        );
+    }
+
+    @Test
+    public void testConverterCached() {
+        final AtomicInteger resolved = new AtomicInteger();
+        final ConverterExecutor executor = ConverterExecutor.with(
+            new FakeConverterProvider() {
+                @Override
+                public <C extends ConverterContext> Converter<C> converter(final ConverterSelector selector,
+                                                                           final ProviderContext context) {
+                    resolved.incrementAndGet();
+                    return PROVIDER.converter(
+                        selector,
+                        context
+                    );
+                }
+            },
+            CONTEXT,
+            Runnable::run
+        );
+
+        final ConverterSelector selector = ConverterSelector.parse("boolean-to-number");
+        executor.converter(selector).join();
+        executor.converter(selector).join();
+
+        this.checkEquals(
+            1,
+            resolved.get(),
+            "resolved"
+        );
+        this.checkEquals(
+            1,
+            executor.cacheSize(),
+            "cacheSize"
+        );
+    }
+
+    @Test
+    public void testConverterCacheBounded() {
+        final ConverterExecutor executor = ConverterExecutor.with(
+            PROVIDER,
+            CONTEXT,
+            Runnable::run,
+            2
+        );
+
+        executor.converter(ConverterSelector.parse("simple")).join();
+        executor.converter(ConverterSelector.parse("boolean-to-number")).join();
+        executor.converter(ConverterSelector.parse("to-text")).join();
+
+        this.checkEquals(
+            2,
+            executor.cacheSize(),
+            "cacheSize"
+        );
+    }
+
+    @Test
+    public void testClearCache() {
+        final ConverterExecutor executor = this.createExecutor();
+        executor.converter(ConverterSelector.parse("simple")).join();
+
+        executor.clearCache();
+
+        this.checkEquals(
+            0,
+            executor.cacheSize(),
+            "cacheSize"
+        );
+    }
+
+    @Test
+    public void testConverterUnknownFails() {
+        final CompletionException thrown = assertThrows(
+            CompletionException.class,
+            () -> this.createExecutor()
+                .converter(ConverterSelector.parse("unknown-404"))
+                .join()
+        );
+        this.checkEquals(
+            IllegalArgumentException.class,
+            thrown.getCause().getClass()
+        );
+    }
+
+    // convert..........................................................................................................
+
+    @Test
+    public void testConvert() {
+        this.checkEquals(
+            "Hello",
+            this.createExecutor()
+                .convert(
+                    ConverterSelector.parse("simple"),
+                    "Hello",
+                    String.class,
+                    CONVERTER_CONTEXT
+                ).join()
+        );
+    }
+
+    @Test
+    public void testConvertFails() {
+        final CompletionException thrown = assertThrows(
+            CompletionException.class,
+            () -> this.createExecutor()
+                .convert(
+                    ConverterSelector.parse("simple"),
+                    123,
+                    String.class,
+                    CONVERTER_CONTEXT
+                ).join()
+        );
+        this.checkEquals(
+            IllegalArgumentException.class,
+            thrown.getCause().getClass()
+        );
+    }
+
+    // stress...........................................................................................................
+
+    private final static int STRESS_TASK_COUNT = 100_000;
+
+    /**
+     * Submits 100k concurrent resolutions of a mix of selectors. Virtual threads are used when available, otherwise
+     * a fixed pool of platform threads.
+     */
+    @Test
+    public void testConverterStress() {
+        final List<ConverterSelector> selectors = Lists.of(
+            ConverterSelector.parse("simple"),
+            ConverterSelector.parse("boolean-to-number"),
+            ConverterSelector.parse("to-text"),
+            ConverterSelector.parse("collection (boolean-to-number, character-or-string-to-string)")
+        );
+
+        ExecutorService executorService;
+        try {
+            executorService = ConverterExecutor.virtualThreadPerTaskExecutor();
+        } catch (final UnsupportedOperationException ignore) {
+            executorService = Executors.newFixedThreadPool(16);
+        }
+
+        try {
+            final ConverterExecutor executor = ConverterExecutor.with(
+                PROVIDER,
+                CONTEXT,
+                executorService
+            );
+
+            final List<CompletableFuture<Converter<ConverterContext>>> futures = Lists.array();
+            for (int i = 0; i < STRESS_TASK_COUNT; i++) {
+                futures.add(
+                    executor.converter(
+                        selectors.get(i % selectors.size())
+                    )
+                );
+            }
+
+            for (int i = 0; i < STRESS_TASK_COUNT; i++) {
+                final ConverterSelector selector = selectors.get(i % selectors.size());
+
+                this.checkEquals(
+                    PROVIDER.converter(
+                        selector,
+                        CONTEXT
+                    ),
+                    futures.get(i).join(),
+                    selector::toString
+                );
+            }
+
+            this.checkEquals(
+                selectors.size(),
+                executor.cacheSize(),
+                "cacheSize"
+            );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    // close............................................................................................................
+
+    @Test
+    public void testCloseClearsCache() {
+        final ConverterExecutor executor = this.createExecutor();
+        executor.converter(ConverterSelector.parse("simple")).join();
+
+        executor.close();
+
+        this.checkEquals(
+            0,
+            executor.cacheSize(),
+            "cacheSize"
+        );
+    }
+
+    @Test
+    public void testCloseDoesNotShutdownGivenExecutorService() {
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            ConverterExecutor.with(
+                PROVIDER,
+                CONTEXT,
+                executorService
+            ).close();
+
+            this.checkEquals(
+                false,
+                executorService.isShutdown(),
+                "isShutdown"
+            );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private ConverterExecutor createExecutor() {
+        return ConverterExecutor.with(
+            PROVIDER,
+            CONTEXT,
+            Runnable::run
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createExecutor(),
+            PROVIDER.toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterExecutor> type() {
+        return ConverterExecutor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.plugin.ProviderContexts;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class ConverterFlightRecorderTest implements ClassTesting<ConverterFlightRecorder> {
+
+    @AfterEach
+    public void afterEach() {
+        ConverterFlightRecorder.disable();
+    }
+
+    @Test
+    public void testEnableRecords() throws IOException {
+        final Path file = Files.createTempFile(
+            ConverterFlightRecorderTest.class.getSimpleName(),
+            ".jfr"
+        );
+
+        try {
+            try (final Recording recording = new Recording()) {
+                recording.enable(ConverterFlightRecorder.EVENT_NAME);
+                recording.start();
+
+                ConverterFlightRecorder.enable();
+
+                ConverterSelector.parse("collection (simple)")
+                    .evaluateValueText(
+                        ConverterProviders.converters(),
+                        ProviderContexts.fake()
+                    );
+
+                ConverterFlightRecorder.disable();
+
+                recording.stop();
+                recording.dump(file);
+            }
+
+            final List<String> events = RecordingFile.readAllEvents(file)
+                .stream()
+                .filter(e -> e.getEventType().getName().equals(ConverterFlightRecorder.EVENT_NAME))
+                .map(ConverterFlightRecorderTest::toString)
+                .collect(Collectors.toList());
+
+            this.checkEquals(
+                Lists.of(
+                    "CONVERTERS_CONVERTER simple depth=2 success=true",
+                    "CONVERTERS_CONVERTER collection depth=1 success=true",
+                    "SELECTOR_EVALUATE_VALUE_TEXT collection depth=0 success=true"
+                ),
+                events
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testDisabledRecordsNothing() {
+        ConverterFlightRecorder.enable();
+        ConverterFlightRecorder.disable();
+
+        this.checkEquals(
+            null,
+            ConverterEvents.listener()
+        );
+    }
+
+    private static String toString(final RecordedEvent event) {
+        return event.getString("kind") +
+            " " +
+            event.getString("converterName") +
+            " depth=" +
+            event.getInt("depth") +
+            " success=" +
+            event.getBoolean("success");
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterFlightRecorder> type() {
+        return ConverterFlightRecorder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,461 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.convert.ConverterContexts;
+import walkingkooka.convert.FakeConverter;
+import walkingkooka.plugin.ProviderContext;
+import walkingkooka.plugin.ProviderContexts;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterFlowProcessorTest implements ClassTesting<ConverterFlowProcessor<?, ?>> {
+
+    private final static ConverterSelector SELECTOR = ConverterSelector.parse("simple");
+
+    private final static ConverterProvider PROVIDER = ConverterProviders.converters();
+
+    private final static ProviderContext PROVIDER_CONTEXT = ProviderContexts.fake();
+
+    private final static ConverterContext CONTEXT = ConverterContexts.fake();
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithNullSelectorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterFlowProcessor.with(
+                null,
+                PROVIDER,
+                PROVIDER_CONTEXT,
+                String.class,
+                CONTEXT,
+                4,
+                2
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullProviderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterFlowProcessor.with(
+                SELECTOR,
+                null,
+                PROVIDER_CONTEXT,
+                String.class,
+                CONTEXT,
+                4,
+                2
+            )
+        );
+    }
+
+    @Test
+    public void testWithInvalidBufferSizeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterFlowProcessor.with(
+                SELECTOR,
+                PROVIDER,
+                PROVIDER_CONTEXT,
+                String.class,
+                CONTEXT,
+                0,
+                1
+            )
+        );
+    }
+
+    @Test
+    public void testWithBatchSizeGreaterThanBufferSizeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterFlowProcessor.with(
+                SELECTOR,
+                PROVIDER,
+                PROVIDER_CONTEXT,
+                String.class,
+                CONTEXT,
+                2,
+                3
+            )
+        );
+    }
+
+    @Test
+    public void testWithUnknownConverterFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterFlowProcessor.with(
+                ConverterSelector.parse("unknown-converter-404"),
+                PROVIDER,
+                PROVIDER_CONTEXT,
+                String.class,
+                CONTEXT,
+                4,
+                2
+            )
+        );
+    }
+
+    // onSubscribe......................................................................................................
+
+    @Test
+    public void testOnSubscribeRequestsBatchesUntilBufferFull() {
+        final ConverterFlowProcessor<String, ConverterContext> processor = this.createProcessor();
+        final TestSubscription upstream = new TestSubscription();
+
+        processor.onSubscribe(upstream);
+
+        this.checkEquals(
+            Lists.of(2L, 2L),
+            upstream.requests,
+            "requests"
+        );
+    }
+
+    @Test
+    public void testOnSubscribeTwiceCancelsSecond() {
+        final ConverterFlowProcessor<String, ConverterContext> processor = this.createProcessor();
+        processor.onSubscribe(new TestSubscription());
+
+        final TestSubscription second = new TestSubscription();
+        processor.onSubscribe(second);
+
+        this.checkEquals(
+            true,
+            second.cancelled,
+            "cancelled"
+        );
+    }
+
+    // onNext...........................................................................................................
+
+    @Test
+    public void testOnNextOnlyDeliversDemand() {
+        final ConverterFlowProcessor<String, ConverterContext> processor = this.createProcessor();
+        final TestSubscription upstream = new TestSubscription();
+        processor.onSubscribe(upstream);
+
+        final TestSubscriber<String> subscriber = new TestSubscriber<>();
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        processor.onNext("a1");
+        processor.onNext("b2");
+
+        this.checkEquals(
+            Lists.of("a1"),
+            subscriber.items,
+            "items"
+        );
+
+        subscriber.subscription.request(1);
+
+        this.checkEquals(
+            Lists.of("a1", "b2"),
+            subscriber.items,
+            "items"
+        );
+    }
+
+    @Test
+    public void testOnNextRequestsAnotherBatchAfterConsumed() {
+        final ConverterFlowProcessor<String, ConverterContext> processor = this.createProcessor();
+        final TestSubscription upstream = new TestSubscription();
+        processor.onSubscribe(upstream);
+
+        final TestSubscriber<String> subscriber = new TestSubscriber<>();
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        processor.onNext("a1");
+        processor.onNext("b2");
+
+        this.checkEquals(
+            Lists.of(2L, 2L, 2L),
+            upstream.requests,
+            "requests"
+        );
+    }
+
+    @Test
+    public void testOnNextBufferOverflowFails() {
+        final ConverterFlowProcessor<String, ConverterContext> processor = this.createProcessor();
+        final TestSubscription upstream = new TestSubscription();
+        processor.onSubscribe(upstream);
+
+        final TestSubscriber<String> subscriber = new TestSubscriber<>();
+        processor.subscribe(subscriber);
+
+        processor.onNext("a1");
+        processor.onNext("b2");
+        processor.onNext("c3");
+        processor.onNext("d4");
+        processor.onNext("e5");
+
+        this.checkEquals(
+            IllegalStateException.class,
+            subscriber.error.getClass(),
+            "error"
+        );
+        this.checkEquals(
+            true,
+            upstream.cancelled,
+            "upstream cancelled"
+        );
+    }
+
+    @Test
+    public void testOnNextConversionFailure() {
+        final ConverterFlowProcessor<String, ConverterContext> processor = this.createProcessor();
+        final TestSubscription upstream = new TestSubscription();
+        processor.onSubscribe(upstream);
+
+        final TestSubscriber<String> subscriber = new TestSubscriber<>();
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        processor.onNext(123);
+
+        this.checkEquals(
+            IllegalArgumentException.class,
+            subscriber.error.getClass(),
+            "error"
+        );
+        this.checkEquals(
+            true,
+            upstream.cancelled,
+            "upstream cancelled"
+        );
+    }
+
+    @Test
+    public void testOnNextConverterThrows() {
+        final IllegalStateException thrown = new IllegalStateException("Converter failed!");
+
+        final ConverterFlowProcessor<String, ConverterContext> processor = ConverterFlowProcessor.with(
+            SELECTOR,
+            new FakeConverterProvider() {
+                @Override
+                public <C extends ConverterContext> Converter<C> converter(final ConverterSelector selector,
+                                                                           final ProviderContext context) {
+                    return new FakeConverter<>() {
+                        @Override
+                        public <T> Either<T, String> convert(final Object value,
+                                                             final Class<T> type,
+                                                             final C context) {
+                            throw thrown;
+                        }
+                    };
+                }
+            },
+            PROVIDER_CONTEXT,
+            String.class,
+            CONTEXT,
+            4,
+            2
+        );
+        final TestSubscription upstream = new TestSubscription();
+        processor.onSubscribe(upstream);
+
+        final TestSubscriber<String> subscriber = new TestSubscriber<>();
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        processor.onNext("a1");
+
+        this.checkEquals(
+            thrown,
+            subscriber.error,
+            "error"
+        );
+        this.checkEquals(
+            true,
+            upstream.cancelled,
+            "upstream cancelled"
+        );
+
+        // processor must not be wedged, later signals are ignored rather than lost inside a stuck drain
+        processor.onNext("a2");
+        processor.onComplete();
+
+        this.checkEquals(
+            Lists.empty(),
+            subscriber.items,
+            "items"
+        );
+        this.checkEquals(
+            false,
+            subscriber.completed,
+            "completed"
+        );
+    }
+
+    // onComplete.......................................................................................................
+
+    @Test
+    public void testOnCompleteDeliveredAfterBufferedItems() {
+        final ConverterFlowProcessor<String, ConverterContext> processor = this.createProcessor();
+        processor.onSubscribe(new TestSubscription());
+
+        final TestSubscriber<String> subscriber = new TestSubscriber<>();
+        processor.subscribe(subscriber);
+
+        processor.onNext("a1");
+        processor.onComplete();
+
+        this.checkEquals(
+            false,
+            subscriber.completed,
+            "completed"
+        );
+
+        subscriber.subscription.request(1);
+
+        this.checkEquals(
+            Lists.of("a1"),
+            subscriber.items,
+            "items"
+        );
+        this.checkEquals(
+            true,
+            subscriber.completed,
+            "completed"
+        );
+    }
+
+    // subscribe........................................................................................................
+
+    @Test
+    public void testSubscribeSecondSubscriberFails() {
+        final ConverterFlowProcessor<String, ConverterContext> processor = this.createProcessor();
+        processor.subscribe(new TestSubscriber<>());
+
+        final TestSubscriber<String> second = new TestSubscriber<>();
+        processor.subscribe(second);
+
+        this.checkEquals(
+            IllegalStateException.class,
+            second.error.getClass(),
+            "error"
+        );
+    }
+
+    @Test
+    public void testRequestZeroFails() {
+        final ConverterFlowProcessor<String, ConverterContext> processor = this.createProcessor();
+        processor.onSubscribe(new TestSubscription());
+
+        final TestSubscriber<String> subscriber = new TestSubscriber<>();
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        this.checkEquals(
+            IllegalArgumentException.class,
+            subscriber.error.getClass(),
+            "error"
+        );
+    }
+
+    private ConverterFlowProcessor<String, ConverterContext> createProcessor() {
+        return ConverterFlowProcessor.with(
+            SELECTOR,
+            PROVIDER,
+            PROVIDER_CONTEXT,
+            String.class,
+            CONTEXT,
+            4,
+            2
+        );
+    }
+
+    static final class TestSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(final long n) {
+            this.requests.add(n);
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        final List<Long> requests = Lists.array();
+
+        boolean cancelled;
+    }
+
+    static final class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final T item) {
+            this.items.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+
+        Flow.Subscription subscription;
+
+        final List<T> items = Lists.array();
+
+        Throwable error;
+
+        boolean completed;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterFlowProcessor<?, ?>> type() {
+        return Cast.to(ConverterFlowProcessor.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
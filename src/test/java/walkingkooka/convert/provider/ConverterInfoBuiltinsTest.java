@@ -0,0 +1,153 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.net.Url;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class ConverterInfoBuiltinsTest implements ClassTesting<ConverterInfoBuiltins> {
+
+    private final static String SIMPLE = "https://github.com/mP1/walkingkooka-convert-provider/Converter/simple simple";
+
+    @Test
+    public void testParseReturnsBuiltin() {
+        assertSame(
+            ConverterInfo.parse(SIMPLE),
+            ConverterInfo.parse(SIMPLE)
+        );
+    }
+
+    @Test
+    public void testWithReturnsBuiltin() {
+        assertSame(
+            ConverterInfo.parse(SIMPLE),
+            ConverterInfo.with(
+                Url.parseAbsolute("https://github.com/mP1/walkingkooka-convert-provider/Converter/simple"),
+                ConverterName.SIMPLE
+            )
+        );
+    }
+
+    @Test
+    public void testParseSameNameDifferentUrlNotInterned() {
+        final ConverterInfo info = ConverterInfo.parse("https://example.com/simple simple");
+
+        this.checkNotEquals(
+            ConverterInfo.parse(SIMPLE),
+            info
+        );
+        assertNotSame(
+            info,
+            ConverterInfo.parse("https://example.com/simple simple")
+        );
+    }
+
+    @Test
+    public void testParseUnknownNameNotInterned() {
+        this.checkEquals(
+            ConverterInfo.parse("https://example.com/custom custom"),
+            ConverterInfo.parse("https://example.com/custom custom")
+        );
+    }
+
+    @Test
+    public void testConvertersConverterProviderInfosAreBuiltins() {
+        for (final ConverterInfo info : ConverterProviders.converters().converterInfos()) {
+            assertSame(
+                info,
+                ConverterInfo.parse(info.toString()),
+                info::toString
+            );
+        }
+    }
+
+    // isShared.........................................................................................................
+
+    @Test
+    public void testIsSharedBuiltin() {
+        this.checkEquals(
+            true,
+            ConverterInfoBuiltins.isShared(
+                ConverterInfo.parse(SIMPLE)
+            )
+        );
+    }
+
+    @Test
+    public void testIsSharedDifferentUrl() {
+        this.checkEquals(
+            false,
+            ConverterInfoBuiltins.isShared(
+                ConverterInfo.parse("https://example.com/simple simple")
+            )
+        );
+    }
+
+    // footprint........................................................................................................
+
+    private final static int FOOTPRINT_COPIES = 1000;
+
+    /**
+     * Many filtered and re-parsed copies of the builtin {@link ConverterInfoSet} should only add the set itself to the
+     * heap, all elements are shared.
+     */
+    @Test
+    public void testFootprintCopiesShareElements() {
+        final ConverterInfoSet infos = ConverterProviders.converters()
+            .converterInfos();
+        final String text = infos.text();
+
+        final Map<ConverterInfo, Boolean> distinct = new IdentityHashMap<>();
+
+        for (int i = 0; i < FOOTPRINT_COPIES; i++) {
+            final ConverterInfoSet copy = 0 == i % 2 ?
+                ConverterInfoSet.parse(text) :
+                ConverterInfoSet.parse(text)
+                    .filter(infos);
+            for (final ConverterInfo info : copy) {
+                distinct.put(info, Boolean.TRUE);
+            }
+        }
+
+        this.checkEquals(
+            infos.size(),
+            distinct.size(),
+            "distinct ConverterInfo instances"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterInfoBuiltins> type() {
+        return ConverterInfoBuiltins.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -18,6 +18,7 @@
 package walkingkooka.convert.provider;
 
 import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.collect.set.Sets;
 import walkingkooka.net.Url;
 import walkingkooka.plugin.PluginInfoSetLikeTesting;
@@ -26,10 +27,15 @@ import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.tree.json.JsonNode;
 import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class ConverterInfoSetTest implements PluginInfoSetLikeTesting<ConverterName, ConverterInfo, ConverterInfoSet, ConverterSelector, ConverterAlias, ConverterAliasSet>,
-    ClassTesting<ConverterInfoSet> {
+    ClassTesting<ConverterInfoSet>,
+    ConverterParseCharSequenceTesting<ConverterInfoSet> {
 
     @Test
     public void testImmutableSet() {
@@ -53,6 +59,52 @@ public final class ConverterInfoSetTest implements PluginInfoSetLikeTesting<Conv
         return ConverterInfoSet.parse(text);
     }
 
+    // parse CharSequence...............................................................................................
+
+    @Test
+    public void testParseCharSequenceNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterInfoSet.parse((CharSequence) null)
+        );
+    }
+
+    @Test
+    public void testParseCharSequence() {
+        this.parseCharSequenceAndCheck(
+            "https://example.com/converter1 converter1, https://example.com/converter2 converter2"
+        );
+    }
+
+    @Test
+    public void testParseCharSequenceBuiltins() {
+        this.parseCharSequenceAndCheck(
+            ConverterProviders.converters()
+                .converterInfos()
+                .text()
+        );
+    }
+
+    @Test
+    public void testParseCharSequenceInvalidFails() {
+        this.parseCharSequenceFailsAndCheck("https://example.com/converter1 converter1, converter2");
+    }
+
+    @Test
+    public void testParseCharSequenceDuplicateName() {
+        this.parseCharSequenceSameAsParseString("https://example.com/converter1 converter1, https://example.com/converter2 converter1");
+    }
+
+    @Override
+    public ConverterInfoSet parseText(final String text) {
+        return ConverterInfoSet.parse(text);
+    }
+
+    @Override
+    public ConverterInfoSet parseCharSequence(final CharSequence text) {
+        return ConverterInfoSet.parse(text);
+    }
+
     // Set..............................................................................................................
 
     @Override
@@ -84,6 +136,238 @@ public final class ConverterInfoSetTest implements PluginInfoSetLikeTesting<Conv
         throw new UnsupportedOperationException();
     }
 
+    // unchanged........................................................................................................
+
+    @Test
+    public void testConcatExistingSame() {
+        final ConverterInfoSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.concat(this.info())
+        );
+    }
+
+    @Test
+    public void testConcatAllExistingSame() {
+        final ConverterInfoSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.concatAll(set)
+        );
+    }
+
+    @Test
+    public void testConcatSameNameDifferentUrl() {
+        final ConverterInfoSet set = this.createSet();
+        final ConverterInfo changed = this.changedInfo();
+
+        final ConverterInfoSet concat = set.concat(changed);
+        assertNotSame(
+            set,
+            concat
+        );
+        this.checkEquals(
+            true,
+            concat.stream()
+                .anyMatch(changed::equals),
+            concat + " contains " + changed
+        );
+    }
+
+    @Test
+    public void testConcatAllSameNameDifferentUrl() {
+        final ConverterInfoSet set = this.createSet();
+
+        assertNotSame(
+            set,
+            set.concatAll(
+                Sets.of(
+                    this.changedInfo()
+                )
+            )
+        );
+    }
+
+    /**
+     * Same {@link ConverterName} as {@link #info()} with a different url.
+     */
+    private ConverterInfo changedInfo() {
+        return ConverterInfo.with(
+            Url.parseAbsolute("https://example.com/changed-123"),
+            this.info()
+                .name()
+        );
+    }
+
+    @Test
+    public void testDeleteAbsentSame() {
+        final ConverterInfoSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.delete(
+                ConverterInfo.parse("https://example.com/absent absent")
+            )
+        );
+    }
+
+    @Test
+    public void testDeleteAllAbsentSame() {
+        final ConverterInfoSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.deleteAll(
+                ConverterInfoSet.parse("https://example.com/absent absent")
+            )
+        );
+    }
+
+    @Test
+    public void testDeleteIfNoneMatchSame() {
+        final ConverterInfoSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.deleteIf(i -> false)
+        );
+    }
+
+    @Test
+    public void testDeleteIfTestsEachElementOnce() {
+        final ConverterInfoSet set = this.createSet();
+        final List<ConverterInfo> tested = Lists.array();
+
+        final ConverterInfoSet deleted = set.deleteIf(
+            i -> {
+                tested.add(i);
+                return true;
+            }
+        );
+
+        final List<ConverterInfo> expected = Lists.array();
+        expected.addAll(set);
+
+        this.checkEquals(
+            expected,
+            tested,
+            "tested"
+        );
+        this.checkEquals(
+            ConverterInfoSet.EMPTY,
+            deleted,
+            "deleted"
+        );
+    }
+
+    @Test
+    public void testReplaceSameSame() {
+        final ConverterInfoSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.replace(
+                this.info(),
+                this.info()
+            )
+        );
+    }
+
+    @Test
+    public void testRenameIfPresentEmptySame() {
+        final ConverterInfoSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.renameIfPresent(ConverterInfoSet.EMPTY)
+        );
+    }
+
+    @Test
+    public void testSetElementsEqualConverterInfoSetSame() {
+        final ConverterInfoSet set = this.createSet();
+
+        assertSame(
+            set,
+            set.setElements(
+                ConverterInfoSet.parse(set.text())
+            )
+        );
+    }
+
+    @Test
+    public void testSetElementsDifferentConverterInfoSetShared() {
+        final ConverterInfoSet different = ConverterInfoSet.parse("https://example.com/different different");
+
+        assertSame(
+            different,
+            this.createSet()
+                .setElements(different)
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsSet() {
+        final ConverterInfoSet set = this.createSet();
+
+        this.checkEquals(
+            Sets.of(set.toArray(new ConverterInfo[0])),
+            set
+        );
+        this.checkEquals(
+            set,
+            Sets.of(set.toArray(new ConverterInfo[0]))
+        );
+    }
+
+    @Test
+    public void testEqualsDifferent() {
+        this.checkNotEquals(
+            this.createSet(),
+            ConverterInfoSet.parse("https://example.com/different different")
+        );
+    }
+
+    @Test
+    public void testHashCodeSet() {
+        final ConverterInfoSet set = this.createSet();
+
+        this.checkEquals(
+            Sets.of(set.toArray(new ConverterInfo[0])).hashCode(),
+            set.hashCode()
+        );
+    }
+
+    // contentHash......................................................................................................
+
+    @Test
+    public void testContentHashEqual() {
+        this.checkEquals(
+            this.createSet().contentHash(),
+            ConverterInfoSet.parse(this.createSet().text()).contentHash()
+        );
+    }
+
+    @Test
+    public void testContentHashDifferent() {
+        this.checkNotEquals(
+            this.createSet().contentHash(),
+            ConverterInfoSet.parse("https://example.com/different different").contentHash()
+        );
+    }
+
+    @Test
+    public void testContentHashEmpty() {
+        this.checkEquals(
+            0L,
+            ConverterInfoSet.EMPTY.contentHash()
+        );
+    }
+
     // json.............................................................................................................
 
     @Test
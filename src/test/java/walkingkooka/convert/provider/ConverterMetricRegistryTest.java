@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterMetricRegistryTest implements ClassTesting<ConverterMetricRegistry> {
+
+    @Test
+    public void testMetricWithNullNameFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterMetricRegistry.create()
+                .metric(null)
+        );
+    }
+
+    @Test
+    public void testMetricUnknown() {
+        final ConverterMetric metric = ConverterMetricRegistry.create()
+            .metric(ConverterName.BOOLEAN_TO_NUMBER);
+
+        this.checkEquals(
+            0L,
+            metric.count(),
+            "count"
+        );
+    }
+
+    @Test
+    public void testRecordAndMetric() {
+        final ConverterMetricRegistry registry = ConverterMetricRegistry.create();
+        final ConverterName name = ConverterName.BOOLEAN_TO_NUMBER;
+
+        registry.record(name, 0, 1, true);
+        registry.record(name, 10, 13, true);
+        registry.record(name, 20, 1044, false);
+
+        final long[] histogram = new long[ConverterMetricCounter.HISTOGRAM_BUCKETS];
+        histogram[0] = 1; // 1
+        histogram[1] = 1; // 3
+        histogram[10] = 1; // 1024
+
+        this.checkEquals(
+            ConverterMetric.with(
+                3,
+                1,
+                1 + 3 + 1024,
+                histogram
+            ),
+            registry.metric(name)
+        );
+    }
+
+    @Test
+    public void testSnapshot() {
+        final ConverterMetricRegistry registry = ConverterMetricRegistry.create();
+
+        registry.record(ConverterName.BOOLEAN_TO_NUMBER, 0, 1, true);
+        registry.record(ConverterName.SIMPLE, 0, 1, false);
+
+        final Map<ConverterName, ConverterMetric> snapshot = registry.snapshot();
+
+        this.checkEquals(
+            Maps.of(
+                ConverterName.BOOLEAN_TO_NUMBER,
+                registry.metric(ConverterName.BOOLEAN_TO_NUMBER),
+                ConverterName.SIMPLE,
+                registry.metric(ConverterName.SIMPLE)
+            ),
+            snapshot
+        );
+
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> snapshot.clear()
+        );
+    }
+
+    @Test
+    public void testBucket() {
+        this.checkEquals(0, ConverterMetricCounter.bucket(0), "0");
+        this.checkEquals(0, ConverterMetricCounter.bucket(1), "1");
+        this.checkEquals(1, ConverterMetricCounter.bucket(2), "2");
+        this.checkEquals(1, ConverterMetricCounter.bucket(3), "3");
+        this.checkEquals(10, ConverterMetricCounter.bucket(1024), "1024");
+        this.checkEquals(
+            ConverterMetricCounter.HISTOGRAM_BUCKETS - 1,
+            ConverterMetricCounter.bucket(Long.MAX_VALUE),
+            "max"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterMetricRegistry> type() {
+        return ConverterMetricRegistry.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ConverterMetricTest implements ClassTesting<ConverterMetric>,
+    HashCodeEqualsDefinedTesting2<ConverterMetric>,
+    ToStringTesting<ConverterMetric> {
+
+    @Test
+    public void testMeanNanos() {
+        this.checkEquals(
+            25L,
+            this.createObject()
+                .meanNanos()
+        );
+    }
+
+    @Test
+    public void testMeanNanosWhenEmpty() {
+        this.checkEquals(
+            0L,
+            ConverterMetric.with(
+                0,
+                0,
+                0,
+                new long[2]
+            ).meanNanos()
+        );
+    }
+
+    @Test
+    public void testHistogramIsCopy() {
+        final ConverterMetric metric = this.createObject();
+        metric.histogram()[0] = 999;
+
+        this.checkEquals(
+            1L,
+            metric.histogram()[0]
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentCount() {
+        this.checkNotEquals(
+            ConverterMetric.with(
+                3,
+                1,
+                100,
+                new long[]{1, 3}
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentHistogram() {
+        this.checkNotEquals(
+            ConverterMetric.with(
+                4,
+                1,
+                100,
+                new long[]{2, 2}
+            )
+        );
+    }
+
+    @Override
+    public ConverterMetric createObject() {
+        return ConverterMetric.with(
+            4,
+            1,
+            100,
+            new long[]{1, 3}
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "count=4 failures=1 totalNanos=100 histogram=[1, 3]"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterMetric> type() {
+        return ConverterMetric.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.set.Sets;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterNameBitSetGuardTest implements ClassTesting<ConverterNameBitSetGuard>,
+    ToStringTesting<ConverterNameBitSetGuard> {
+
+    @Test
+    public void testTryWithNotConstant() {
+        this.checkEquals(
+            null,
+            ConverterNameBitSetGuard.tryWith(
+                Sets.of(
+                    ConverterName.SIMPLE,
+                    ConverterName.with("custom")
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testTryWithEmpty() {
+        this.checkEquals(
+            false,
+            ConverterNameBitSetGuard.tryWith(Sets.empty())
+                .test(ConverterName.SIMPLE)
+        );
+    }
+
+    @Test
+    public void testNameAllowed() {
+        assertSame(
+            ConverterName.SIMPLE,
+            this.createGuard()
+                .name(ConverterName.SIMPLE)
+        );
+    }
+
+    @Test
+    public void testNameNotAllowedFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createGuard()
+                .name(ConverterName.NEVER)
+        );
+        this.checkEquals(
+            "Unknown Converter never",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testNameNotConstantFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createGuard()
+                .name(ConverterName.with("custom"))
+        );
+    }
+
+    @Test
+    public void testTestAllConstants() {
+        final ConverterNameBitSetGuard guard = ConverterNameBitSetGuard.tryWith(
+            ConverterName.NAME_TO_FACTORY.keySet()
+        );
+
+        for (final ConverterName name : ConverterName.NAME_TO_FACTORY.keySet()) {
+            this.checkEquals(
+                true,
+                guard.test(name),
+                name::toString
+            );
+        }
+    }
+
+    @Test
+    public void testTestLastOrdinalOnly() {
+        final ConverterName last = ConverterName.TO_VALUE;
+        final ConverterNameBitSetGuard guard = ConverterNameBitSetGuard.tryWith(
+            Sets.of(last)
+        );
+
+        for (final ConverterName name : ConverterName.NAME_TO_FACTORY.keySet()) {
+            this.checkEquals(
+                name == last,
+                guard.test(name),
+                name::toString
+            );
+        }
+    }
+
+    @Test
+    public void testBytes() {
+        this.checkEquals(
+            true,
+            this.createGuard().bytes() < ConverterProviderFootprint.entries(2)
+        );
+    }
+
+    private ConverterNameBitSetGuard createGuard() {
+        return ConverterNameBitSetGuard.tryWith(
+            Sets.of(
+                ConverterName.SIMPLE,
+                ConverterName.TO_TEXT
+            )
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createGuard(),
+            "simple, to-text"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterNameBitSetGuard> type() {
+        return ConverterNameBitSetGuard.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
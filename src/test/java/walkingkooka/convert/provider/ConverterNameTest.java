@@ -29,11 +29,15 @@ import walkingkooka.text.CharacterConstant;
 import walkingkooka.tree.json.JsonNode;
 import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
 
+import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 final public class ConverterNameTest implements PluginNameTesting<ConverterName> {
 
     @Test
@@ -72,6 +76,69 @@ final public class ConverterNameTest implements PluginNameTesting<ConverterName>
         );
     }
 
+    @Test
+    public void testWithConstantReturnsConstant() {
+        for (final Field field : ConverterName.class.getFields()) {
+            if (FieldAttributes.STATIC.is(field) && field.getType() == ConverterName.class) {
+                final ConverterName constant;
+                try {
+                    constant = (ConverterName) field.get(null);
+                } catch (final Exception rethrow) {
+                    throw new Error(rethrow);
+                }
+
+                assertSame(
+                    constant,
+                    ConverterName.with(constant.value()),
+                    field::getName
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testWithCollectionTo() {
+        assertSame(
+            ConverterName.COLLECTION_TO,
+            ConverterName.with("collection-to")
+        );
+    }
+
+    // ordinal..........................................................................................................
+
+    @Test
+    public void testOrdinalConstantsDense() {
+        final Set<Integer> ordinals = ConverterName.NAME_TO_FACTORY.keySet()
+            .stream()
+            .map(ConverterName::ordinal)
+            .collect(Collectors.toCollection(SortedSets::tree));
+
+        this.checkEquals(
+            ConverterName.constantCount(),
+            ordinals.size(),
+            "distinct ordinals"
+        );
+        this.checkEquals(
+            0,
+            ((SortedSet<Integer>) ordinals).first(),
+            "first"
+        );
+        this.checkEquals(
+            ConverterName.constantCount() - 1,
+            ((SortedSet<Integer>) ordinals).last(),
+            "last"
+        );
+    }
+
+    @Test
+    public void testOrdinalNotConstant() {
+        this.checkEquals(
+            ConverterName.NOT_CONSTANT,
+            ConverterName.with("not-a-constant-123")
+                .ordinal()
+        );
+    }
+
     @Override
     public ConverterName createName(final String name) {
         return ConverterName.with(name);
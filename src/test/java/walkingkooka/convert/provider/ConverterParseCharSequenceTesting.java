@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.test.Testing;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Mixin for testing a parse overload taking a {@link CharSequence} returns the same value or fails with the same
+ * exception as the parse overload taking a {@link String}.
+ */
+public interface ConverterParseCharSequenceTesting<T> extends Testing {
+
+    default void parseCharSequenceAndCheck(final String text) {
+        this.checkEquals(
+            this.parseText(text),
+            this.parseCharSequence(
+                new StringBuilder(text)
+            ),
+            text
+        );
+    }
+
+    /**
+     * The full parse may reject duplicates, so both must either fail with the same message or return equal values.
+     */
+    default void parseCharSequenceSameAsParseString(final String text) {
+        final T expected;
+        try {
+            expected = this.parseText(text);
+        } catch (final RuntimeException cause) {
+            this.parseCharSequenceFailsAndCheck(text);
+            return;
+        }
+
+        this.checkEquals(
+            expected,
+            this.parseCharSequence(
+                new StringBuilder(text)
+            ),
+            text
+        );
+    }
+
+    default void parseCharSequenceFailsAndCheck(final String text) {
+        final RuntimeException expected = assertThrows(
+            RuntimeException.class,
+            () -> this.parseText(text)
+        );
+        final RuntimeException thrown = assertThrows(
+            RuntimeException.class,
+            () -> this.parseCharSequence(
+                new StringBuilder(text)
+            )
+        );
+
+        this.checkEquals(
+            expected.getClass(),
+            thrown.getClass(),
+            "exception"
+        );
+        this.checkEquals(
+            expected.getMessage(),
+            thrown.getMessage(),
+            "message"
+        );
+    }
+
+    /**
+     * Parses the text using the {@link String} overload.
+     */
+    T parseText(final String text);
+
+    /**
+     * Parses the text using the {@link CharSequence} overload.
+     */
+    T parseCharSequence(final CharSequence text);
+}
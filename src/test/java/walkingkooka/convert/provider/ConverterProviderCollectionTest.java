@@ -20,11 +20,20 @@ package walkingkooka.convert.provider;
 import org.junit.jupiter.api.Test;
 import walkingkooka.collect.list.Lists;
 import walkingkooka.collect.set.Sets;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
 import walkingkooka.convert.Converters;
 import walkingkooka.plugin.ProviderContext;
 import walkingkooka.plugin.ProviderContexts;
 import walkingkooka.reflect.JavaVisibility;
 
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class ConverterProviderCollectionTest implements ConverterProviderTesting<ConverterProviderCollection> {
@@ -76,6 +85,107 @@ public final class ConverterProviderCollectionTest implements ConverterProviderT
         );
     }
 
+    // lazy.............................................................................................................
+
+    @Test
+    public void testConverterNameLazyMemberCreatedOnFirstUse() {
+        final AtomicInteger created = new AtomicInteger();
+
+        final ConverterProviderCollection collection = ConverterProviderCollection.with(
+            Sets.of(
+                ConverterProviders.lazy(
+                    ConverterProviders.converters()
+                        .converterInfos(),
+                    () -> {
+                        created.incrementAndGet();
+                        return ConverterProviders.converters();
+                    }
+                )
+            )
+        );
+
+        this.checkEquals(
+            ConverterProviders.converters()
+                .converterInfos(),
+            collection.converterInfos(),
+            "converterInfos"
+        );
+        this.checkEquals(
+            0,
+            created.get(),
+            "created before resolve"
+        );
+
+        this.converterAndCheck(
+            collection,
+            ConverterName.BOOLEAN_TO_NUMBER,
+            Lists.empty(),
+            CONTEXT,
+            Converters.booleanToNumber()
+        );
+        this.checkEquals(
+            1,
+            created.get(),
+            "created after resolve"
+        );
+    }
+
+    @Test
+    public void testConverterNameLazyMemberConcurrentFirstUse() throws Exception {
+        final int threadCount = 16;
+
+        final AtomicInteger created = new AtomicInteger();
+        final ConverterProviderCollection collection = ConverterProviderCollection.with(
+            Sets.of(
+                ConverterProviders.lazy(
+                    ConverterProviders.converters()
+                        .converterInfos(),
+                    () -> {
+                        created.incrementAndGet();
+                        return ConverterProviders.converters();
+                    }
+                )
+            )
+        );
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final List<Future<Converter<ConverterContext>>> futures = Lists.array();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(
+                    executor.submit(
+                        () -> {
+                            start.await();
+                            return collection.converter(
+                                ConverterName.BOOLEAN_TO_NUMBER,
+                                Lists.empty(),
+                                CONTEXT
+                            );
+                        }
+                    )
+                );
+            }
+
+            start.countDown();
+
+            for (final Future<Converter<ConverterContext>> future : futures) {
+                this.checkEquals(
+                    Converters.booleanToNumber(),
+                    future.get()
+                );
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        this.checkEquals(
+            1,
+            created.get(),
+            "created"
+        );
+    }
+
     @Override
     public ConverterProviderCollection createConverterProvider() {
         return ConverterProviderCollection.with(
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.convert.Converters;
+import walkingkooka.plugin.ProviderContext;
+import walkingkooka.plugin.ProviderContexts;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Properties;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterProviderDiscoveryTest implements ClassTesting<ConverterProviderDiscovery> {
+
+    private final static ProviderContext CONTEXT = ProviderContexts.fake();
+
+    private final static ConverterName INDEXED = ConverterName.with("indexed");
+
+    private final static ConverterName UNINDEXED = ConverterName.with("unindexed");
+
+    @Test
+    public void testDiscoverNullClassLoaderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterProviderDiscovery.discover(null)
+        );
+    }
+
+    @Test
+    public void testDiscover() {
+        final int indexedCreated = IndexedConverterProvider.CREATED.get();
+        final int unindexedCreated = UnindexedConverterProvider.CREATED.get();
+
+        final ConverterProvider provider = ConverterProviderDiscovery.discover(
+            this.getClass().getClassLoader()
+        );
+
+        this.checkEquals(
+            ConverterInfoSet.parse("https://example.com/indexed indexed,https://example.com/unindexed unindexed"),
+            provider.converterInfos(),
+            "converterInfos"
+        );
+        this.checkEquals(
+            indexedCreated,
+            IndexedConverterProvider.CREATED.get(),
+            "indexed provider should not be created"
+        );
+        this.checkEquals(
+            unindexedCreated + 1,
+            UnindexedConverterProvider.CREATED.get(),
+            "unindexed provider created"
+        );
+
+        this.checkEquals(
+            Converters.simple(),
+            provider.converter(
+                INDEXED,
+                Lists.empty(),
+                CONTEXT
+            ),
+            "converter"
+        );
+        this.checkEquals(
+            indexedCreated + 1,
+            IndexedConverterProvider.CREATED.get(),
+            "indexed provider created"
+        );
+    }
+
+    @Test
+    public void testDiscoverStaleIndexFails() {
+        final Properties index = new Properties();
+        index.setProperty(
+            IndexedConverterProvider.class.getName(),
+            "https://example.com/stale indexed"
+        );
+
+        final ConverterProvider provider = ConverterProviderDiscovery.discover(
+            ServiceLoader.load(
+                ConverterProvider.class,
+                this.getClass().getClassLoader()
+            ).stream()
+                .filter(p -> p.type() == IndexedConverterProvider.class)
+                .collect(Collectors.toList()),
+            index
+        );
+
+        this.checkEquals(
+            ConverterInfoSet.parse("https://example.com/stale indexed"),
+            provider.converterInfos(),
+            "converterInfos"
+        );
+
+        final IllegalStateException thrown = assertThrows(
+            IllegalStateException.class,
+            () -> provider.converter(
+                INDEXED,
+                Lists.empty(),
+                CONTEXT
+            )
+        );
+        this.checkEquals(
+            "Stale index entry for " + IndexedConverterProvider.class.getName() + " indexed https://example.com/stale indexed but provider has https://example.com/indexed indexed",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWriteIndex() throws IOException {
+        final StringWriter writer = new StringWriter();
+        ConverterProviderDiscovery.writeIndex(
+            this.getClass().getClassLoader(),
+            writer
+        );
+
+        final Properties index = new Properties();
+        index.load(new StringReader(writer.toString()));
+
+        this.checkEquals(
+            "https://example.com/indexed indexed",
+            index.getProperty(IndexedConverterProvider.class.getName()),
+            "indexed"
+        );
+        this.checkEquals(
+            "https://example.com/unindexed unindexed",
+            index.getProperty(UnindexedConverterProvider.class.getName()),
+            "unindexed"
+        );
+    }
+
+    /**
+     * Listed in both the services file and the index.
+     */
+    public static final class IndexedConverterProvider extends TestConverterProvider {
+
+        final static AtomicInteger CREATED = new AtomicInteger();
+
+        public IndexedConverterProvider() {
+            super(INDEXED);
+            CREATED.incrementAndGet();
+        }
+    }
+
+    /**
+     * Only listed in the services file.
+     */
+    public static final class UnindexedConverterProvider extends TestConverterProvider {
+
+        final static AtomicInteger CREATED = new AtomicInteger();
+
+        public UnindexedConverterProvider() {
+            super(UNINDEXED);
+            CREATED.incrementAndGet();
+        }
+    }
+
+    abstract static class TestConverterProvider extends FakeConverterProvider {
+
+        TestConverterProvider(final ConverterName name) {
+            this.name = name;
+        }
+
+        @Override
+        public <C extends ConverterContext> Converter<C> converter(final ConverterName name,
+                                                                   final List<?> values,
+                                                                   final ProviderContext context) {
+            if (false == this.name.equals(name)) {
+                throw new IllegalArgumentException("Unknown converter " + name);
+            }
+            return Converters.simple();
+        }
+
+        @Override
+        public ConverterInfoSet converterInfos() {
+            return ConverterInfoSet.parse("https://example.com/" + this.name + " " + this.name);
+        }
+
+        private final ConverterName name;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterProviderDiscovery> type() {
+        return ConverterProviderDiscovery.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
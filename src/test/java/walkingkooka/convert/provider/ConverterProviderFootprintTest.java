@@ -0,0 +1,315 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.set.Sets;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterProviderFootprintTest implements ClassTesting<ConverterProviderFootprint>,
+    HashCodeEqualsDefinedTesting2<ConverterProviderFootprint>,
+    ToStringTesting<ConverterProviderFootprint> {
+
+    private final static ConverterProvider CONVERTERS = ConverterProviders.converters();
+
+    private final static ConverterAliasSet ALIASES = ConverterAliasSet.parse("number boolean-to-number, text to-text");
+
+    @Test
+    public void testOfNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterProviderFootprint.of(null)
+        );
+    }
+
+    @Test
+    public void testOfConverters() {
+        final ConverterProviderFootprint footprint = ConverterProviderFootprint.of(CONVERTERS);
+
+        this.checkEquals(
+            "ConvertersConverterProvider",
+            footprint.layer(),
+            "layer"
+        );
+        this.checkEquals(
+            CONVERTERS.converterInfos().size(),
+            footprint.entries(),
+            "entries"
+        );
+        this.checkEquals(
+            0L,
+            footprint.retainedBytes(),
+            "retainedBytes"
+        );
+    }
+
+    @Test
+    public void testOfEmpty() {
+        this.checkEquals(
+            ConverterProviderFootprint.with(
+                ConverterProviders.empty(),
+                0,
+                0
+            ),
+            ConverterProviderFootprint.of(
+                ConverterProviders.empty()
+            )
+        );
+    }
+
+    @Test
+    public void testOfNotHasConverterProviderFootprint() {
+        final ConverterProvider provider = new FakeConverterProvider() {
+            @Override
+            public ConverterInfoSet converterInfos() {
+                return CONVERTERS.converterInfos();
+            }
+        };
+
+        final ConverterProviderFootprint footprint = ConverterProviderFootprint.of(provider);
+
+        this.checkEquals(
+            provider.getClass().getName(),
+            footprint.layer(),
+            "layer"
+        );
+        this.checkEquals(
+            CONVERTERS.converterInfos().size(),
+            footprint.entries(),
+            "entries"
+        );
+        this.checkEquals(
+            Lists.empty(),
+            footprint.children(),
+            "children"
+        );
+    }
+
+    @Test
+    public void testOfAliases() {
+        final ConverterProvider provider = ConverterProviders.aliases(
+            ALIASES,
+            CONVERTERS
+        );
+
+        final ConverterProviderFootprint footprint = ConverterProviderFootprint.of(provider);
+
+        this.checkEquals(
+            "AliasesConverterProvider",
+            footprint.layer(),
+            "layer"
+        );
+        this.checkEquals(
+            ALIASES.size() + provider.converterInfos().size(),
+            footprint.entries(),
+            "entries"
+        );
+        this.checkEquals(
+            Lists.of(
+                ConverterProviderFootprint.of(CONVERTERS)
+            ),
+            footprint.children(),
+            "children"
+        );
+        this.checkEquals(
+            true,
+            footprint.retainedBytes() > 0,
+            "retainedBytes"
+        );
+    }
+
+    @Test
+    public void testOfMoreAliasesRetainsMore() {
+        this.checkEquals(
+            true,
+            ConverterProviderFootprint.of(
+                ConverterProviders.aliases(
+                    ALIASES,
+                    CONVERTERS
+                )
+            ).retainedBytes() > ConverterProviderFootprint.of(
+                ConverterProviders.aliases(
+                    ConverterAliasSet.parse("number boolean-to-number"),
+                    CONVERTERS
+                )
+            ).retainedBytes()
+        );
+    }
+
+    @Test
+    public void testOfCollection() {
+        final ConverterProvider provider = ConverterProviders.collection(
+            Sets.of(
+                CONVERTERS
+            )
+        );
+
+        final ConverterProviderFootprint footprint = ConverterProviderFootprint.of(provider);
+
+        this.checkEquals(
+            1,
+            footprint.entries(),
+            "entries"
+        );
+        this.checkEquals(
+            Lists.of(
+                ConverterProviderFootprint.of(CONVERTERS)
+            ),
+            footprint.children(),
+            "children"
+        );
+    }
+
+    @Test
+    public void testOfDelegator() {
+        final ConverterProviderDelegator delegator = new ConverterProviderDelegator() {
+            @Override
+            public ConverterProvider converterProvider() {
+                return CONVERTERS;
+            }
+        };
+
+        this.checkEquals(
+            Lists.of(
+                ConverterProviderFootprint.of(CONVERTERS)
+            ),
+            ConverterProviderFootprint.of(delegator)
+                .children()
+        );
+    }
+
+    @Test
+    public void testOfLazyNotLoaded() {
+        final ConverterProvider provider = ConverterProviders.lazy(
+            CONVERTERS.converterInfos(),
+            () -> CONVERTERS
+        );
+
+        this.checkEquals(
+            Lists.empty(),
+            ConverterProviderFootprint.of(provider)
+                .children()
+        );
+    }
+
+    @Test
+    public void testRetainedEntries() {
+        final ConverterProvider provider = ConverterProviders.aliases(
+            ALIASES,
+            CONVERTERS
+        );
+
+        this.checkEquals(
+            (long) ALIASES.size() + provider.converterInfos().size() + CONVERTERS.converterInfos().size(),
+            ConverterProviderFootprint.of(provider)
+                .retainedEntries()
+        );
+    }
+
+    @Test
+    public void testInfosSharedBuiltinsOnlyReferences() {
+        final ConverterInfoSet builtins = CONVERTERS.converterInfos();
+        final ConverterInfoSet copy = ConverterInfoSet.parse(
+            builtins.text()
+                .replace("https://github.com/mP1/walkingkooka-convert-provider/Converter/", "https://example.com/")
+        );
+
+        this.checkEquals(
+            true,
+            ConverterProviderFootprint.infos(copy) > ConverterProviderFootprint.infos(builtins)
+        );
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentEntries() {
+        this.checkNotEquals(
+            ConverterProviderFootprint.with(
+                ConverterProviders.empty(),
+                1,
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentBytes() {
+        this.checkNotEquals(
+            ConverterProviderFootprint.with(
+                ConverterProviders.empty(),
+                0,
+                1
+            )
+        );
+    }
+
+    @Override
+    public ConverterProviderFootprint createObject() {
+        return ConverterProviderFootprint.with(
+            ConverterProviders.empty(),
+            0,
+            0
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ConverterProviderFootprint.with(
+                ConverterProviders.empty(),
+                1,
+                23
+            ),
+            "EmptyConverterProvider 1 entries 23 bytes"
+        );
+    }
+
+    @Test
+    public void testToStringWithChildren() {
+        this.toStringAndCheck(
+            ConverterProviderFootprint.with(
+                ConverterProviders.empty(),
+                1,
+                23,
+                ConverterProviders.empty()
+            ),
+            "EmptyConverterProvider 1 entries 23 bytes (EmptyConverterProvider 0 entries 0 bytes)"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterProviderFootprint> type() {
+        return ConverterProviderFootprint.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.tree.expression.ExpressionNumberKind;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContexts;
+
+import java.math.MathContext;
+import java.util.Arrays;
+
+/**
+ * A manual benchmark comparing building an aliases {@link ConverterProvider} from {@link ConverterAliasSet} text, which
+ * parses the aliases and merges them with the wrapped provider infos, against unmarshalling a saved
+ * {@link ConverterProviderSnapshot} json text and creating the provider from it. The median of several rounds is
+ * printed. It is not part of the test suite, run it with the test classpath:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=walkingkooka.convert.provider.ConverterProviderSnapshotBenchmark
+ * </pre>
+ */
+public final class ConverterProviderSnapshotBenchmark {
+
+    private final static String ALIASES = "simple, number boolean-to-number, text to-text, chars character-or-string-to-string";
+
+    private final static int ROUNDS = 11;
+
+    private final static int ITERATIONS = 10_000;
+
+    public static void main(final String[] args) {
+        ConvertProviderStartup.init();
+
+        final ConverterProvider converters = ConverterProviders.converters();
+        final JsonNodeUnmarshallContext context = JsonNodeUnmarshallContexts.basic(
+            ExpressionNumberKind.DEFAULT,
+            MathContext.DECIMAL32
+        );
+        final String json = JsonNodeMarshallContexts.basic()
+            .marshall(
+                ConverterProviderSnapshot.with(
+                    ConverterAliasSet.parse(ALIASES),
+                    converters
+                )
+            ).toString();
+
+        final long[] text = new long[ROUNDS];
+        final long[] snapshot = new long[ROUNDS];
+
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                ConverterProviders.aliases(
+                    ConverterAliasSet.parse(ALIASES),
+                    converters
+                );
+            }
+            text[r] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                context.unmarshall(
+                    JsonNode.parse(json),
+                    ConverterProviderSnapshot.class
+                ).provider(converters);
+            }
+            snapshot[r] = System.nanoTime() - start;
+        }
+
+        System.out.println(
+            ConverterProviderSnapshotBenchmark.class.getSimpleName() +
+                " text " + medianNanos(text) / ITERATIONS + "ns" +
+                " snapshot " + medianNanos(snapshot) / ITERATIONS + "ns"
+        );
+    }
+
+    private static long medianNanos(final long[] nanos) {
+        Arrays.sort(nanos);
+        return nanos[nanos.length / 2];
+    }
+
+    private ConverterProviderSnapshotBenchmark() {
+        throw new UnsupportedOperationException();
+    }
+}
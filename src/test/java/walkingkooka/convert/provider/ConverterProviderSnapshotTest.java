@@ -0,0 +1,248 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.plugin.ProviderContexts;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallingTesting;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterProviderSnapshotTest implements ClassTesting<ConverterProviderSnapshot>,
+    HashCodeEqualsDefinedTesting2<ConverterProviderSnapshot>,
+    ToStringTesting<ConverterProviderSnapshot>,
+    JsonNodeMarshallingTesting<ConverterProviderSnapshot> {
+
+    private final static ConverterAliasSet ALIASES = ConverterAliasSet.parse("simple, alias2 boolean-to-number");
+
+    private final static ConverterProvider PROVIDER = ConverterProviders.converters();
+
+    /**
+     * The same infos as {@link #PROVIDER} with an extra info, so aliases still merge but the content hash differs.
+     */
+    private final static ConverterInfoSet CHANGED_INFOS = PROVIDER.converterInfos()
+        .concat(
+            ConverterInfo.parse("https://example.com/custom custom")
+        );
+
+    @Test
+    public void testWithNullAliasesFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterProviderSnapshot.with(
+                null,
+                PROVIDER
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullProviderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterProviderSnapshot.with(
+                ALIASES,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testInfos() {
+        this.checkEquals(
+            ALIASES.merge(PROVIDER.converterInfos()),
+            this.createObject()
+                .infos()
+        );
+    }
+
+    @Test
+    public void testProviderSameAsAliases() {
+        final ConverterProvider aliases = ConverterProviders.aliases(
+            ALIASES,
+            PROVIDER
+        );
+        final ConverterProvider snapshot = this.createObject()
+            .provider(PROVIDER);
+
+        this.checkEquals(
+            aliases.converterInfos(),
+            snapshot.converterInfos(),
+            "converterInfos"
+        );
+        this.checkEquals(
+            aliases.converter(
+                ConverterName.with("alias2"),
+                Lists.empty(),
+                ProviderContexts.fake()
+            ),
+            snapshot.converter(
+                ConverterName.with("alias2"),
+                Lists.empty(),
+                ProviderContexts.fake()
+            ),
+            "converter"
+        );
+    }
+
+    @Test
+    public void testProviderUsesSnapshotInfos() {
+        final ConverterProviderSnapshot snapshot = this.createObject();
+
+        final ConverterProvider provider = snapshot.provider(
+            new FakeConverterProvider() {
+                @Override
+                public ConverterInfoSet converterInfos() {
+                    return PROVIDER.converterInfos();
+                }
+            }
+        );
+
+        this.checkEquals(
+            snapshot.infos(),
+            provider.converterInfos()
+        );
+    }
+
+    @Test
+    public void testProviderDifferentInfosFails() {
+        final ConverterProviderSnapshot snapshot = this.createObject();
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> snapshot.provider(
+                new FakeConverterProvider() {
+                    @Override
+                    public ConverterInfoSet converterInfos() {
+                        return CHANGED_INFOS;
+                    }
+                }
+            )
+        );
+    }
+
+    @Test
+    public void testProviderAfterJsonRoundtripDifferentInfosFails() {
+        final ConverterProviderSnapshot snapshot = this.unmarshall(
+            this.marshallContext()
+                .marshall(this.createObject()),
+            this.unmarshallContext()
+        );
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> snapshot.provider(
+                new FakeConverterProvider() {
+                    @Override
+                    public ConverterInfoSet converterInfos() {
+                        return CHANGED_INFOS;
+                    }
+                }
+            )
+        );
+    }
+
+    @Test
+    public void testProviderNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createObject()
+                .provider(null)
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentAliases() {
+        this.checkNotEquals(
+            ConverterProviderSnapshot.with(
+                ConverterAliasSet.parse("simple"),
+                PROVIDER
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentSourceInfos() {
+        this.checkNotEquals(
+            ConverterProviderSnapshot.with(
+                ALIASES,
+                new FakeConverterProvider() {
+                    @Override
+                    public ConverterInfoSet converterInfos() {
+                        return CHANGED_INFOS;
+                    }
+                }
+            )
+        );
+    }
+
+    @Override
+    public ConverterProviderSnapshot createObject() {
+        return ConverterProviderSnapshot.with(
+            ALIASES,
+            PROVIDER
+        );
+    }
+
+    // json.............................................................................................................
+
+    @Override
+    public ConverterProviderSnapshot unmarshall(final JsonNode node,
+                                                final JsonNodeUnmarshallContext context) {
+        return ConverterProviderSnapshot.unmarshall(
+            node,
+            context
+        );
+    }
+
+    @Override
+    public ConverterProviderSnapshot createJsonNodeMarshallingValue() {
+        return this.createObject();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final ConverterProviderSnapshot snapshot = this.createObject();
+
+        this.toStringAndCheck(
+            snapshot,
+            snapshot.aliases() + " " + snapshot.infos()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterProviderSnapshot> type() {
+        return ConverterProviderSnapshot.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
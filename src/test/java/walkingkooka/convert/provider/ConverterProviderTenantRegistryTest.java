@@ -0,0 +1,569 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.convert.Converters;
+import walkingkooka.convert.FakeConverter;
+import walkingkooka.plugin.FakeProviderContext;
+import walkingkooka.plugin.ProviderContext;
+import walkingkooka.plugin.ProviderContexts;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterProviderTenantRegistryTest implements ClassTesting<ConverterProviderTenantRegistry<?>>,
+    ToStringTesting<ConverterProviderTenantRegistry<?>> {
+
+    private final static ConverterProvider PROVIDER = ConverterProviders.converters();
+
+    private final static long IDLE_MILLIS = 1000;
+
+    private final static ConverterAliasSet ALIASES = ConverterAliasSet.parse("number boolean-to-number");
+
+    private final static ConverterInfoSet INFOS = ConverterInfoSet.parse(
+        "https://github.com/mP1/walkingkooka-convert-provider/Converter/boolean-to-number boolean-to-number"
+    );
+
+    private final static ProviderContext CONTEXT = ProviderContexts.fake();
+
+    @Test
+    public void testWithNullProviderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterProviderTenantRegistry.with(
+                null,
+                IDLE_MILLIS,
+                System::currentTimeMillis
+            )
+        );
+    }
+
+    @Test
+    public void testWithInvalidIdleMillisFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ConverterProviderTenantRegistry.with(
+                PROVIDER,
+                0,
+                System::currentTimeMillis
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullClockFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterProviderTenantRegistry.with(
+                PROVIDER,
+                IDLE_MILLIS,
+                null
+            )
+        );
+    }
+
+    // register.........................................................................................................
+
+    @Test
+    public void testRegisterConverter() {
+        final ConverterProvider provider = this.createRegistry()
+            .register(
+                "tenant1",
+                ALIASES,
+                INFOS
+            );
+
+        this.checkEquals(
+            Converters.booleanToNumber(),
+            provider.converter(
+                ConverterSelector.parse("number"),
+                CONTEXT
+            )
+        );
+    }
+
+    @Test
+    public void testRegisterSameConfigurationShared() {
+        final ConverterProviderTenantRegistry<String> registry = this.createRegistry();
+
+        final ConverterProvider provider1 = registry.register(
+            "tenant1",
+            ALIASES,
+            INFOS
+        );
+        final ConverterProvider provider2 = registry.register(
+            "tenant2",
+            ConverterAliasSet.parse(ALIASES.text()),
+            ConverterInfoSet.parse(INFOS.text())
+        );
+
+        assertSame(
+            provider1,
+            provider2
+        );
+        this.countsAndCheck(
+            registry,
+            2,
+            1
+        );
+    }
+
+    @Test
+    public void testRegisterSharedConverter() {
+        final ConverterProviderTenantRegistry<String> registry = this.createRegistry();
+
+        final ConverterSelector selector = ConverterSelector.parse("number");
+
+        assertSame(
+            registry.register(
+                "tenant1",
+                ALIASES,
+                INFOS
+            ).converter(
+                selector,
+                CONTEXT
+            ),
+            registry.register(
+                "tenant2",
+                ALIASES,
+                INFOS
+            ).converter(
+                selector,
+                CONTEXT
+            )
+        );
+    }
+
+    @Test
+    public void testRegisterSharedConverterDifferentContexts() {
+        final ProviderContext context1 = new FakeProviderContext();
+        final ProviderContext context2 = new FakeProviderContext();
+
+        final Converter<?> converter1 = new FakeConverter<>();
+        final Converter<?> converter2 = new FakeConverter<>();
+
+        final ConverterProviderTenantRegistry<String> registry = ConverterProviderTenantRegistry.with(
+            new FakeConverterProvider() {
+                @Override
+                public <C extends ConverterContext> Converter<C> converter(final ConverterSelector selector,
+                                                                           final ProviderContext context) {
+                    return selector.evaluateValueText(
+                        this,
+                        context
+                    );
+                }
+
+                @Override
+                public <C extends ConverterContext> Converter<C> converter(final ConverterName name,
+                                                                           final List<?> values,
+                                                                           final ProviderContext context) {
+                    return Cast.to(
+                        context == context1 ?
+                            converter1 :
+                            converter2
+                    );
+                }
+
+                @Override
+                public ConverterInfoSet converterInfos() {
+                    return PROVIDER.converterInfos();
+                }
+            },
+            IDLE_MILLIS,
+            System::currentTimeMillis
+        );
+
+        final ConverterSelector selector = ConverterSelector.parse("number");
+
+        final ConverterProvider provider1 = registry.register(
+            "tenant1",
+            ALIASES,
+            INFOS
+        );
+        final ConverterProvider provider2 = registry.register(
+            "tenant2",
+            ALIASES,
+            INFOS
+        );
+        assertSame(
+            provider1,
+            provider2
+        );
+
+        assertSame(
+            converter1,
+            provider1.converter(
+                selector,
+                context1
+            ),
+            "tenant1"
+        );
+        assertSame(
+            converter2,
+            provider2.converter(
+                selector,
+                context2
+            ),
+            "tenant2"
+        );
+        assertSame(
+            converter1,
+            provider1.converter(
+                selector,
+                context1
+            ),
+            "tenant1 cached"
+        );
+    }
+
+    @Test
+    public void testRegisterConverterCacheBounded() {
+        final ConverterProvider provider = this.createRegistry()
+            .register(
+                "tenant1",
+                ALIASES,
+                INFOS
+            );
+        final ConverterSelector selector = ConverterSelector.parse("number");
+
+        for (int i = 0; i < ConverterProviderTenantRegistry.CONVERTER_CACHE_CAPACITY * 2; i++) {
+            provider.converter(
+                selector,
+                new FakeProviderContext()
+            );
+        }
+
+        this.checkEquals(
+            ConverterProviderTenantRegistry.CONVERTER_CACHE_CAPACITY,
+            ConverterProviderFootprint.of(provider)
+                .entries(),
+            "entries"
+        );
+    }
+
+    @Test
+    public void testRegisterDifferentConfiguration() {
+        final ConverterProviderTenantRegistry<String> registry = this.createRegistry();
+
+        final ConverterProvider provider1 = registry.register(
+            "tenant1",
+            ALIASES,
+            INFOS
+        );
+        final ConverterProvider provider2 = registry.register(
+            "tenant2",
+            ConverterAliasSet.EMPTY,
+            INFOS
+        );
+
+        assertNotSame(
+            provider1,
+            provider2
+        );
+        this.countsAndCheck(
+            registry,
+            2,
+            2
+        );
+    }
+
+    @Test
+    public void testRegisterReplacesReleasesPrevious() {
+        final ConverterProviderTenantRegistry<String> registry = this.createRegistry();
+
+        registry.register(
+            "tenant1",
+            ALIASES,
+            INFOS
+        );
+        registry.register(
+            "tenant1",
+            ConverterAliasSet.EMPTY,
+            INFOS
+        );
+
+        this.countsAndCheck(
+            registry,
+            1,
+            1
+        );
+    }
+
+    @Test
+    public void testRegisterReplacesKeepsSharedCache() {
+        final ConverterProviderTenantRegistry<String> registry = this.createRegistry();
+        final ConverterSelector selector = ConverterSelector.parse("number");
+
+        final Converter<ConverterContext> converter = registry.register(
+            "tenant1",
+            ALIASES,
+            INFOS
+        ).converter(
+            selector,
+            CONTEXT
+        );
+        final ConverterProvider tenant2 = registry.register(
+            "tenant2",
+            ALIASES,
+            INFOS
+        );
+
+        // tenant1 leaves the shared configuration
+        registry.register(
+            "tenant1",
+            ConverterAliasSet.EMPTY,
+            INFOS
+        );
+
+        assertSame(
+            converter,
+            tenant2.converter(
+                selector,
+                CONTEXT
+            )
+        );
+        this.checkEquals(
+            1,
+            tenant2Footprint(registry).entries(),
+            "cache entries"
+        );
+    }
+
+    // provider.........................................................................................................
+
+    @Test
+    public void testProviderUnknown() {
+        this.checkEquals(
+            Optional.empty(),
+            this.createRegistry()
+                .provider("unknown")
+        );
+    }
+
+    @Test
+    public void testProvider() {
+        final ConverterProviderTenantRegistry<String> registry = this.createRegistry();
+
+        final ConverterProvider provider = registry.register(
+            "tenant1",
+            ALIASES,
+            INFOS
+        );
+
+        this.checkEquals(
+            Optional.of(provider),
+            registry.provider("tenant1")
+        );
+    }
+
+    // footprint........................................................................................................
+
+    @Test
+    public void testFootprintUnknown() {
+        this.checkEquals(
+            Optional.empty(),
+            this.createRegistry()
+                .footprint("unknown")
+        );
+    }
+
+    @Test
+    public void testFootprint() {
+        final ConverterProviderTenantRegistry<String> registry = this.createRegistry();
+
+        final ConverterProvider provider = registry.register(
+            "tenant1",
+            ALIASES,
+            INFOS
+        );
+
+        this.checkEquals(
+            Optional.of(
+                ConverterProviderFootprint.of(provider)
+            ),
+            registry.footprint("tenant1")
+        );
+    }
+
+    // evictIdle........................................................................................................
+
+    @Test
+    public void testEvictIdle() {
+        final AtomicLong now = new AtomicLong();
+        final ConverterProviderTenantRegistry<String> registry = ConverterProviderTenantRegistry.with(
+            PROVIDER,
+            IDLE_MILLIS,
+            now::get
+        );
+
+        registry.register(
+            "tenant1",
+            ALIASES,
+            INFOS
+        );
+        registry.register(
+            "tenant2",
+            ALIASES,
+            INFOS
+        );
+        registry.register(
+            "tenant3",
+            ConverterAliasSet.EMPTY,
+            INFOS
+        );
+
+        now.set(IDLE_MILLIS);
+        registry.provider("tenant1");
+
+        now.set(IDLE_MILLIS + 1);
+
+        this.checkEquals(
+            2,
+            registry.evictIdle(),
+            "evicted"
+        );
+        this.countsAndCheck(
+            registry,
+            1,
+            1
+        );
+        this.checkEquals(
+            Optional.empty(),
+            registry.provider("tenant3"),
+            "tenant3"
+        );
+    }
+
+    @Test
+    public void testEvictIdleKeepsSharedCache() {
+        final AtomicLong now = new AtomicLong();
+        final ConverterProviderTenantRegistry<String> registry = ConverterProviderTenantRegistry.with(
+            PROVIDER,
+            IDLE_MILLIS,
+            now::get
+        );
+        final ConverterSelector selector = ConverterSelector.parse("number");
+
+        registry.register(
+            "tenant1",
+            ALIASES,
+            INFOS
+        );
+        final ConverterProvider tenant2 = registry.register(
+            "tenant2",
+            ALIASES,
+            INFOS
+        );
+        final Converter<ConverterContext> converter = tenant2.converter(
+            selector,
+            CONTEXT
+        );
+
+        now.set(IDLE_MILLIS);
+        registry.provider("tenant2");
+
+        now.set(IDLE_MILLIS + 1);
+
+        this.checkEquals(
+            1,
+            registry.evictIdle(),
+            "evicted"
+        );
+        assertSame(
+            converter,
+            tenant2.converter(
+                selector,
+                CONTEXT
+            )
+        );
+        this.checkEquals(
+            1,
+            tenant2Footprint(registry).entries(),
+            "cache entries"
+        );
+    }
+
+    private ConverterProviderTenantRegistry<String> createRegistry() {
+        return ConverterProviderTenantRegistry.with(
+            PROVIDER,
+            IDLE_MILLIS,
+            System::currentTimeMillis
+        );
+    }
+
+    private static ConverterProviderFootprint tenant2Footprint(final ConverterProviderTenantRegistry<String> registry) {
+        return registry.footprint("tenant2")
+            .orElseThrow(IllegalStateException::new);
+    }
+
+    private void countsAndCheck(final ConverterProviderTenantRegistry<?> registry,
+                                final int tenantCount,
+                                final int configurationCount) {
+        this.checkEquals(
+            tenantCount,
+            registry.tenantCount(),
+            "tenantCount"
+        );
+        this.checkEquals(
+            configurationCount,
+            registry.configurationCount(),
+            "configurationCount"
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final ConverterProviderTenantRegistry<String> registry = this.createRegistry();
+        registry.register(
+            "tenant1",
+            ALIASES,
+            INFOS
+        );
+
+        this.toStringAndCheck(
+            registry,
+            "1 tenant(s) 1 configuration(s)"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterProviderTenantRegistry<?>> type() {
+        return Cast.to(ConverterProviderTenantRegistry.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
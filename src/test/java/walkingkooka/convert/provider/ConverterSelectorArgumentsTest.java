@@ -0,0 +1,296 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.convert.Converters;
+import walkingkooka.plugin.ProviderContext;
+import walkingkooka.plugin.ProviderContexts;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class ConverterSelectorArgumentsTest implements ClassTesting<ConverterSelectorArguments>,
+    ConverterSelectorValueTextTesting {
+
+    private final static ProviderContext CONTEXT = ProviderContexts.fake();
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseEmpty() {
+        this.parseAndCheck(
+            "",
+            "[]"
+        );
+    }
+
+    @Test
+    public void testParseWhitespace() {
+        this.parseAndCheck(
+            "   ",
+            "[]"
+        );
+    }
+
+    @Test
+    public void testParseEmptyParameters() {
+        this.parseAndCheck(
+            " ( ) ",
+            "[]"
+        );
+    }
+
+    @Test
+    public void testParseNumbers() {
+        this.parseAndCheck(
+            "(1, -2.5, 003)",
+            "[1.0, -2.5, 3.0]"
+        );
+    }
+
+    @Test
+    public void testParseStrings() {
+        this.parseAndCheck(
+            "( \"a, b\" , \"\" )",
+            "[a, b, ]"
+        );
+    }
+
+    @Test
+    public void testParseNested() {
+        this.parseAndCheck(
+            "(converter1, converter2(converter3, 1), \"x\")",
+            "[converter1[], converter2[converter3[], 1.0], x]"
+        );
+    }
+
+    @Test
+    public void testParseTextUnsupported() {
+        this.parseUnsupported("$0.00");
+    }
+
+    @Test
+    public void testParseUnclosedUnsupported() {
+        this.parseUnsupported("(1");
+    }
+
+    @Test
+    public void testParseTrailingTextUnsupported() {
+        this.parseUnsupported("(1) 2");
+    }
+
+    @Test
+    public void testParseEscapedStringUnsupported() {
+        this.parseUnsupported("(\"a\\\"b\")");
+    }
+
+    @Test
+    public void testParseExponentUnsupported() {
+        this.parseUnsupported("(1e5)");
+    }
+
+    @Test
+    public void testParseMissingParameterUnsupported() {
+        this.parseUnsupported("(1,,2)");
+    }
+
+    @Test
+    public void testParseTabUnsupported() {
+        this.parseUnsupported("(1,\t2)");
+    }
+
+    @Test
+    public void testParseNewlineUnsupported() {
+        this.parseUnsupported("(1,\n2)");
+    }
+
+    private void parseAndCheck(final String text,
+                               final String expected) {
+        this.checkEquals(
+            expected,
+            ConverterSelectorArguments.parse(text)
+                .toString(),
+            text
+        );
+    }
+
+    private void parseUnsupported(final String text) {
+        assertSame(
+            ConverterSelectorArguments.UNSUPPORTED,
+            ConverterSelectorArguments.parse(text),
+            text
+        );
+    }
+
+    // evaluate.........................................................................................................
+
+    @Test
+    public void testEvaluateNested() {
+        final ConverterName name1 = ConverterName.with("converter1");
+        final ConverterName name2 = ConverterName.with("converter2");
+        final ConverterName name3 = ConverterName.with("converter3");
+
+        final Converter<ConverterContext> expected1 = Converters.fake();
+        final Converter<ConverterContext> expected2 = Converters.fake();
+        final Converter<ConverterContext> expected3 = Converters.fake();
+
+        this.checkEquals(
+            expected1,
+            ConverterSelectorArguments.parse("(converter2(converter3), 1, \"x\")")
+                .evaluate(
+                    name1,
+                    new FakeConverterProvider() {
+                        @Override
+                        public <C extends ConverterContext> Converter<C> converter(final ConverterName name,
+                                                                                   final List<?> values,
+                                                                                   final ProviderContext context) {
+                            final Converter<?> converter;
+                            if (name.equals(name1)) {
+                                checkEquals(
+                                    Lists.of(expected2, 1.0, "x"),
+                                    values,
+                                    "values"
+                                );
+                                converter = expected1;
+                            } else {
+                                if (name.equals(name2)) {
+                                    checkEquals(
+                                        Lists.of(expected3),
+                                        values,
+                                        "values"
+                                    );
+                                    converter = expected2;
+                                } else {
+                                    checkEquals(
+                                        name3,
+                                        name,
+                                        "name"
+                                    );
+                                    checkEquals(
+                                        Lists.empty(),
+                                        values,
+                                        "values"
+                                    );
+                                    converter = expected3;
+                                }
+                            }
+                            return Cast.to(converter);
+                        }
+                    },
+                    CONTEXT
+                )
+        );
+    }
+
+    // PluginSelector...................................................................................................
+
+    @Test
+    public void testEvaluateSameAsPluginSelectorEmpty() {
+        this.evaluateSameAsPluginSelector(
+            "",
+            "()",
+            " (  ) "
+        );
+    }
+
+    @Test
+    public void testEvaluateSameAsPluginSelectorNumbers() {
+        this.evaluateSameAsPluginSelector(
+            "(1)",
+            "( 001 , -2.50 )",
+            "(0.0, -0.0)",
+            "(123.456)"
+        );
+    }
+
+    @Test
+    public void testEvaluateSameAsPluginSelectorStrings() {
+        this.evaluateSameAsPluginSelector(
+            "(\"\")",
+            "( \"a , b ( \" , 1 )",
+            "(\"x  y\", \"z\")"
+        );
+    }
+
+    @Test
+    public void testEvaluateSameAsPluginSelectorNested() {
+        this.evaluateSameAsPluginSelector(
+            "(a)",
+            "(a, b())",
+            "( a ( b , c ( 1 ) ) , \"x\" )",
+            "(a(b(c(d(2)))))"
+        );
+    }
+
+    @Test
+    public void testEvaluateSameAsPluginSelectorErrors() {
+        this.evaluateSameAsPluginSelector(
+            "(unknown1)",
+            "(a(unknown2), 1)",
+            "(a, b(c, unknown3(1)))"
+        );
+    }
+
+    /**
+     * Checks each text is supported and evaluates to the same {@link Converter} or error as
+     * {@link walkingkooka.plugin.PluginSelector}.
+     */
+    private void evaluateSameAsPluginSelector(final String... texts) {
+        for (final String text : texts) {
+            final ConverterSelectorArguments arguments = ConverterSelectorArguments.parse(text);
+            assertNotSame(
+                ConverterSelectorArguments.UNSUPPORTED,
+                arguments,
+                text
+            );
+
+            this.checkEquals(
+                this.evaluateWithPluginSelector(text),
+                this.describeEvaluation(
+                    () -> arguments.evaluate(
+                        VALUE_TEXT_NAME,
+                        this.recordingConverterProvider(),
+                        CONTEXT
+                    )
+                ),
+                text
+            );
+        }
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterSelectorArguments> type() {
+        return ConverterSelectorArguments.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ConverterSelectorCanonicalFormTest implements ClassTesting<ConverterSelectorCanonicalForm>,
+    ConverterSelectorValueTextTesting {
+
+    // valueText........................................................................................................
+
+    @Test
+    public void testValueTextEmpty() {
+        this.valueTextAndCheck(
+            "",
+            ""
+        );
+    }
+
+    @Test
+    public void testValueTextWhitespace() {
+        this.valueTextAndCheck(
+            "   ",
+            ""
+        );
+    }
+
+    @Test
+    public void testValueTextEmptyParameters() {
+        this.valueTextAndCheck(
+            " (  ) ",
+            "()"
+        );
+    }
+
+    @Test
+    public void testValueTextNames() {
+        this.valueTextAndCheck(
+            "( a ,b,  c )",
+            "(a, b, c)"
+        );
+    }
+
+    @Test
+    public void testValueTextNested() {
+        this.valueTextAndCheck(
+            "(a(b ,c( 1 )), d)",
+            "(a(b, c(1)), d)"
+        );
+    }
+
+    @Test
+    public void testValueTextNumbers() {
+        this.valueTextAndCheck(
+            "(001.500, -02.50, 0.0)",
+            "(1.5, -2.5, 0)"
+        );
+    }
+
+    @Test
+    public void testValueTextNegativeZero() {
+        this.valueTextAndCheck(
+            "(1, -0.0)",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextTrailingDot() {
+        this.valueTextAndCheck(
+            "(1, 2.)",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextStringUnchanged() {
+        this.valueTextAndCheck(
+            "( \"a , b ( \" , 1 )",
+            "(\"a , b ( \", 1)"
+        );
+    }
+
+    @Test
+    public void testValueTextStringEscape() {
+        this.valueTextAndCheck(
+            "( \"a\\\"b\" )",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextAlreadyCanonical() {
+        this.valueTextAndCheck(
+            "(a, b(1.5), \"x\")",
+            "(a, b(1.5), \"x\")"
+        );
+    }
+
+    @Test
+    public void testValueTextNotParameters() {
+        this.valueTextAndCheck(
+            "$0.00",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextSpaceBetweenTokens() {
+        this.valueTextAndCheck(
+            "(a b)",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextSpaceBeforeNestedParen() {
+        this.valueTextAndCheck(
+            "(a (b))",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextUnclosedParen() {
+        this.valueTextAndCheck(
+            "(a, b",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextUnclosedString() {
+        this.valueTextAndCheck(
+            "(\"a)",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextTextAfterParameters() {
+        this.valueTextAndCheck(
+            "(a) b",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextParametersAfterNestedParameters() {
+        this.valueTextAndCheck(
+            "(b(1)(2))",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextDollar() {
+        this.valueTextAndCheck(
+            "(a$)",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextMissingParameter() {
+        this.valueTextAndCheck(
+            "(a,,b)",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextTab() {
+        this.valueTextAndCheck(
+            "(a,\tb)",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextNewline() {
+        this.valueTextAndCheck(
+            "(a,\nb)",
+            null
+        );
+    }
+
+    @Test
+    public void testValueTextNonBreakingSpace() {
+        this.valueTextAndCheck(
+            "(a,\u00A0b)",
+            null
+        );
+    }
+
+    private void valueTextAndCheck(final String text,
+                                   final String expected) {
+        this.checkEquals(
+            expected,
+            ConverterSelectorCanonicalForm.valueText(text),
+            text
+        );
+    }
+
+    // PluginSelector...................................................................................................
+
+    @Test
+    public void testPluginSelectorSameWhitespace() {
+        this.pluginSelectorSameAndCheck(
+            "()",
+            " ( ) ",
+            "( a ,b )",
+            "(a,  b)",
+            "(a,\tb)",
+            "(a,\nb)",
+            "(a,\r\nb)",
+            "(\ta)",
+            "(a,\u00A0b)"
+        );
+    }
+
+    @Test
+    public void testPluginSelectorSameNumbers() {
+        this.pluginSelectorSameAndCheck(
+            "(1)",
+            "( 001 )",
+            "(1.50, -02.5)",
+            "(0.0, 000)",
+            "(-0.0)",
+            "(1.)",
+            "(.5)",
+            "(1e5)"
+        );
+    }
+
+    @Test
+    public void testPluginSelectorSameStrings() {
+        this.pluginSelectorSameAndCheck(
+            "( \"a\" )",
+            "( \"a , b ( \" , 1 )",
+            "(\"\")",
+            "( \"a\\\"b\" )",
+            "(\"unclosed)"
+        );
+    }
+
+    @Test
+    public void testPluginSelectorSameNested() {
+        this.pluginSelectorSameAndCheck(
+            "( a ( b , c ( 1 ) ) , d )",
+            "(a(b ,c( 1 )), d)",
+            "(a (b))",
+            "( a() )",
+            "(unknown1, a)"
+        );
+    }
+
+    /**
+     * For each text that is canonicalized, checks {@link walkingkooka.plugin.PluginSelector} evaluates the original
+     * and canonical text the same, including any failure.
+     */
+    private void pluginSelectorSameAndCheck(final String... texts) {
+        for (final String text : texts) {
+            final String canonical = ConverterSelectorCanonicalForm.valueText(text);
+            if (null != canonical) {
+                this.checkEquals(
+                    this.evaluateWithPluginSelector(text),
+                    this.evaluateWithPluginSelector(canonical),
+                    text + " canonical " + canonical
+                );
+            }
+        }
+    }
+
+    // number...........................................................................................................
+
+    @Test
+    public void testNumberInteger() {
+        this.numberAndCheck(
+            "123",
+            "123"
+        );
+    }
+
+    @Test
+    public void testNumberLeadingZeros() {
+        this.numberAndCheck(
+            "007",
+            "7"
+        );
+    }
+
+    @Test
+    public void testNumberZero() {
+        this.numberAndCheck(
+            "000",
+            "0"
+        );
+    }
+
+    @Test
+    public void testNumberTrailingZeros() {
+        this.numberAndCheck(
+            "1.2500",
+            "1.25"
+        );
+    }
+
+    @Test
+    public void testNumberNegativeZero() {
+        this.numberAndCheck(
+            "-0.00",
+            null
+        );
+    }
+
+    @Test
+    public void testNumberNegativeFraction() {
+        this.numberAndCheck(
+            "-00.50",
+            "-0.5"
+        );
+    }
+
+    @Test
+    public void testNumberTrailingDot() {
+        this.numberAndCheck(
+            "2.",
+            null
+        );
+    }
+
+    @Test
+    public void testNumberNegative() {
+        this.numberAndCheck(
+            "-01.10",
+            "-1.1"
+        );
+    }
+
+    @Test
+    public void testNumberName() {
+        this.numberAndCheck(
+            "to-text",
+            "to-text"
+        );
+    }
+
+    @Test
+    public void testNumberLeadingDot() {
+        this.numberAndCheck(
+            ".5",
+            null
+        );
+    }
+
+    @Test
+    public void testNumberExponent() {
+        this.numberAndCheck(
+            "1e10",
+            null
+        );
+    }
+
+    private void numberAndCheck(final String token,
+                                final String expected) {
+        this.checkEquals(
+            expected,
+            ConverterSelectorCanonicalForm.number(token),
+            token
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterSelectorCanonicalForm> type() {
+        return ConverterSelectorCanonicalForm.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -35,6 +35,8 @@ import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class ConverterSelectorTest implements PluginSelectorLikeTesting<ConverterSelector, ConverterName> {
@@ -70,6 +72,244 @@ public final class ConverterSelectorTest implements PluginSelectorLikeTesting<Co
         return ConverterSelector.parse(text);
     }
 
+    // parseAll.........................................................................................................
+
+    @Test
+    public void testParseAllNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterSelector.parseAll(null)
+        );
+    }
+
+    @Test
+    public void testParseAllNullTextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ConverterSelector.parseAll(
+                Lists.of(
+                    "simple",
+                    null
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testParseAllInvalidFails() {
+        final String text = "!simple";
+
+        final RuntimeException expected = assertThrows(
+            RuntimeException.class,
+            () -> ConverterSelector.parse(text)
+        );
+        final RuntimeException thrown = assertThrows(
+            RuntimeException.class,
+            () -> ConverterSelector.parseAll(
+                Lists.of(
+                    "simple",
+                    text
+                )
+            )
+        );
+
+        this.checkEquals(
+            expected.getClass(),
+            thrown.getClass(),
+            "exception"
+        );
+        this.checkEquals(
+            expected.getMessage(),
+            thrown.getMessage(),
+            "message"
+        );
+    }
+
+    @Test
+    public void testParseAllEmpty() {
+        this.checkEquals(
+            Lists.empty(),
+            ConverterSelector.parseAll(Lists.empty())
+        );
+    }
+
+    @Test
+    public void testParseAll() {
+        final List<String> texts = Lists.of(
+            "simple",
+            "collection (boolean-to-number, to-text)",
+            NAME + " " + TEXT
+        );
+
+        final List<ConverterSelector> selectors = Lists.array();
+        for (final String text : texts) {
+            selectors.add(
+                ConverterSelector.parse(text)
+            );
+        }
+
+        this.checkEquals(
+            selectors,
+            ConverterSelector.parseAll(texts)
+        );
+    }
+
+    @Test
+    public void testParseAllSameTextSharesSelector() {
+        final List<ConverterSelector> selectors = ConverterSelector.parseAll(
+            Lists.of(
+                "collection (boolean-to-number, to-text)",
+                "simple",
+                "collection (boolean-to-number, to-text)"
+            )
+        );
+
+        assertSame(
+            selectors.get(0),
+            selectors.get(2)
+        );
+    }
+
+    @Test
+    public void testParseAllSharesNotConstantNames() {
+        final List<ConverterSelector> selectors = ConverterSelector.parseAll(
+            Lists.of(
+                NAME + " 1",
+                NAME + " 2"
+            )
+        );
+
+        assertNotSame(
+            selectors.get(0),
+            selectors.get(1)
+        );
+        assertSame(
+            selectors.get(0).name(),
+            selectors.get(1).name()
+        );
+    }
+
+    @Test
+    public void testParseAllConstantNames() {
+        assertSame(
+            ConverterName.SIMPLE,
+            ConverterSelector.parseAll(
+                Lists.of("simple")
+            ).get(0)
+                .name()
+        );
+    }
+
+    // canonical........................................................................................................
+
+    @Test
+    public void testCanonicalAlreadyCanonical() {
+        final ConverterSelector selector = ConverterSelector.parse("collection (boolean-to-number, to-text)");
+
+        assertSame(
+            selector,
+            selector.canonical()
+        );
+    }
+
+    @Test
+    public void testCanonicalNoValueText() {
+        final ConverterSelector selector = ConverterSelector.parse("simple");
+
+        assertSame(
+            selector,
+            selector.canonical()
+        );
+    }
+
+    @Test
+    public void testCanonicalNotParameters() {
+        final ConverterSelector selector = ConverterSelector.parse(NAME + " " + TEXT);
+
+        assertSame(
+            selector,
+            selector.canonical()
+        );
+    }
+
+    @Test
+    public void testCanonicalNegativeZero() {
+        final ConverterSelector selector = ConverterSelector.parse(NAME + " ( -0.0 )");
+
+        assertSame(
+            selector,
+            selector.canonical()
+        );
+    }
+
+    @Test
+    public void testCanonicalInvalidTrailingDot() {
+        final ConverterSelector selector = ConverterSelector.parse(NAME + " ( 2. )");
+
+        assertSame(
+            selector,
+            selector.canonical()
+        );
+    }
+
+    @Test
+    public void testCanonicalWhitespaceAndNumbers() {
+        this.checkEquals(
+            ConverterSelector.with(
+                NAME,
+                "(1.5, " + NAME2 + "(2), \"a  b\")"
+            ),
+            ConverterSelector.parse(NAME + "  ( 01.50 ," + NAME2 + "( 2.0 ) , \"a  b\" )")
+                .canonical()
+        );
+    }
+
+    @Test
+    public void testCanonicalDifferentWhitespaceEqual() {
+        final ConverterSelector canonical = ConverterSelector.parse("collection (boolean-to-number,to-text)")
+            .canonical();
+        final ConverterSelector canonical2 = ConverterSelector.parse("collection  ( boolean-to-number , to-text )")
+            .canonical();
+
+        this.checkEquals(
+            canonical,
+            canonical2
+        );
+        this.checkEquals(
+            canonical.hashCode(),
+            canonical2.hashCode()
+        );
+    }
+
+    @Test
+    public void testCanonicalTwice() {
+        final ConverterSelector canonical = ConverterSelector.parse("collection  ( boolean-to-number , to-text )")
+            .canonical();
+
+        assertSame(
+            canonical,
+            canonical.canonical()
+        );
+    }
+
+    @Test
+    public void testCanonicalEvaluateValueText() {
+        final ConverterProvider provider = ConverterProviders.converters();
+        final ConverterSelector selector = ConverterSelector.parse("collection  ( boolean-to-number , to-text )");
+
+        this.checkEquals(
+            selector.evaluateValueText(
+                provider,
+                CONTEXT
+            ),
+            selector.canonical()
+                .evaluateValueText(
+                    provider,
+                    CONTEXT
+                )
+        );
+    }
+
     // EvaluateValueText................................................................................................
 
     @Test
@@ -394,6 +634,83 @@ public final class ConverterSelectorTest implements PluginSelectorLikeTesting<Co
         );
     }
 
+    @Test
+    public void testEvaluateValueTextTwiceUsesCachedArguments() {
+        final ConverterSelector selector = ConverterSelector.parse("collection (boolean-to-number, to-text)");
+        final ConverterProvider provider = ConverterProviders.converters();
+
+        final Converter<ConverterContext> first = selector.evaluateValueText(
+            provider,
+            CONTEXT
+        );
+        final Converter<ConverterContext> second = selector.evaluateValueText(
+            provider,
+            CONTEXT
+        );
+
+        this.checkEquals(
+            first,
+            second
+        );
+    }
+
+    @Test
+    public void testEvaluateValueTextTwiceNested() {
+        final Converter<ConverterContext> expected1 = Converters.fake();
+        final Converter<ConverterContext> expected2 = Converters.fake();
+
+        final ConverterSelector selector = ConverterSelector.parse(NAME + " (" + NAME2 + ", 1.25, \"x\")");
+        final ConverterProvider provider = new FakeConverterProvider() {
+            @Override
+            public <C extends ConverterContext> Converter<C> converter(final ConverterName name,
+                                                                       final List<?> values,
+                                                                       final ProviderContext context) {
+                if (name.equals(NAME)) {
+                    checkParameters(values, expected2, 1.25, "x");
+                    return Cast.to(expected1);
+                }
+                if (name.equals(NAME2)) {
+                    checkParameters(values);
+                    return Cast.to(expected2);
+                }
+
+                throw new IllegalArgumentException("Unknown converter " + name);
+            }
+        };
+
+        for (int i = 0; i < 2; i++) {
+            this.checkEquals(
+                expected1,
+                selector.evaluateValueText(
+                    provider,
+                    CONTEXT
+                ),
+                "evaluation " + i
+            );
+        }
+    }
+
+    @Test
+    public void testEvaluateValueTextTwiceFails() {
+        final String text = NAME + "(1";
+        final ConverterSelector selector = ConverterSelector.parse(text);
+
+        for (int i = 0; i < 2; i++) {
+            final InvalidCharacterException thrown = assertThrows(
+                InvalidCharacterException.class,
+                () -> selector.evaluateValueText(
+                    ConverterProviders.fake(),
+                    CONTEXT
+                )
+            );
+            this.checkEquals(
+                "Invalid character '1' at 25",
+                thrown.getMessage(),
+                "evaluation " + i
+            );
+        }
+    }
+
     private void evaluateValueTextFails(final String selector,
                                         final String expected) {
         this.evaluateValueTextFails(
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.Cast;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.convert.FakeConverter;
+import walkingkooka.plugin.PluginSelector;
+import walkingkooka.plugin.ProviderContext;
+import walkingkooka.plugin.ProviderContexts;
+import walkingkooka.test.Testing;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Mixin that evaluates a {@link ConverterSelector#valueText()} using the {@link PluginSelector} grammar, so the hand
+ * written grammar shared by {@link ConverterSelectorArguments} and {@link ConverterSelectorCanonicalForm} can be
+ * checked against it. Evaluation uses a {@link ConverterProvider} that records every call, and the result describes
+ * each {@link ConverterName} with its values and their types, or the exception that was thrown.
+ */
+public interface ConverterSelectorValueTextTesting extends Testing {
+
+    /**
+     * The name of the outer {@link Converter} for every evaluated value text.
+     */
+    ConverterName VALUE_TEXT_NAME = ConverterName.with("outer");
+
+    /**
+     * {@link ConverterName} starting with this are unknown to the recording {@link ConverterProvider}.
+     */
+    String UNKNOWN_PREFIX = "unknown";
+
+    default String evaluateWithPluginSelector(final String valueText) {
+        final ConverterProvider provider = this.recordingConverterProvider();
+
+        return this.describeEvaluation(
+            () -> PluginSelector.with(
+                VALUE_TEXT_NAME,
+                valueText
+            ).evaluateValueText(
+                ConverterPluginHelper.INSTANCE::parseName,
+                provider::converter,
+                ProviderContexts.fake()
+            )
+        );
+    }
+
+    /**
+     * Returns the description of the evaluated {@link Converter}, or the exception class and message.
+     */
+    default String describeEvaluation(final Supplier<Converter<?>> evaluate) {
+        String description;
+        try {
+            description = evaluate.get()
+                .toString();
+        } catch (final RuntimeException cause) {
+            description = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        }
+        return description;
+    }
+
+    /**
+     * A {@link ConverterProvider} that returns a {@link Converter} whose toString describes the call that created it.
+     */
+    default ConverterProvider recordingConverterProvider() {
+        return new FakeConverterProvider() {
+
+            @Override
+            public <C extends ConverterContext> Converter<C> converter(final ConverterSelector selector,
+                                                                       final ProviderContext context) {
+                return selector.evaluateValueText(
+                    this,
+                    context
+                );
+            }
+
+            @Override
+            public <C extends ConverterContext> Converter<C> converter(final ConverterName name,
+                                                                       final List<?> values,
+                                                                       final ProviderContext context) {
+                if (name.value().startsWith(UNKNOWN_PREFIX)) {
+                    throw ConverterPluginHelper.INSTANCE.unknownName()
+                        .apply(name);
+                }
+
+                final String description = name + values.stream()
+                    .map(v -> v instanceof Converter ?
+                        v.toString() :
+                        v + ":" + v.getClass().getSimpleName()
+                    ).collect(Collectors.joining(", ", "(", ")"));
+
+                return Cast.to(
+                    new FakeConverter<C>() {
+                        @Override
+                        public String toString() {
+                            return description;
+                        }
+                    }
+                );
+            }
+        };
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ConverterStripedLongTest implements ClassTesting<ConverterStripedLong>,
+    ToStringTesting<ConverterStripedLong> {
+
+    @Test
+    public void testSumEmpty() {
+        this.checkEquals(
+            0L,
+            ConverterStripedLong.empty()
+                .sum()
+        );
+    }
+
+    @Test
+    public void testAddReturnsHintStripe() {
+        this.checkEquals(
+            3,
+            ConverterStripedLong.empty()
+                .add(3, 1)
+        );
+    }
+
+    @Test
+    public void testAddNegativeHint() {
+        final ConverterStripedLong counter = ConverterStripedLong.empty();
+
+        this.checkEquals(
+            ConverterStripedLong.STRIPES - 1,
+            counter.add(-1, 5)
+        );
+        this.checkEquals(
+            5L,
+            counter.sum()
+        );
+    }
+
+    @Test
+    public void testAddSumsAllStripes() {
+        final ConverterStripedLong counter = ConverterStripedLong.empty();
+
+        for (int i = 0; i < ConverterStripedLong.STRIPES * 2; i++) {
+            counter.add(i, i);
+        }
+
+        this.checkEquals(
+            (long) (ConverterStripedLong.STRIPES * 2 - 1) * ConverterStripedLong.STRIPES,
+            counter.sum()
+        );
+    }
+
+    @Test
+    public void testAddConcurrently() throws Exception {
+        final ConverterStripedLong counter = ConverterStripedLong.empty();
+        final int threads = 4;
+        final int adds = 10000;
+
+        final Thread[] started = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            started[i] = new Thread(
+                () -> {
+                    for (int j = 0; j < adds; j++) {
+                        counter.add(0, 1);
+                    }
+                }
+            );
+            started[i].start();
+        }
+        for (final Thread thread : started) {
+            thread.join();
+        }
+
+        this.checkEquals(
+            (long) threads * adds,
+            counter.sum()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final ConverterStripedLong counter = ConverterStripedLong.empty();
+        counter.add(1, 2);
+        counter.add(2, 3);
+
+        this.toStringAndCheck(
+            counter,
+            "5"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterStripedLong> type() {
+        return ConverterStripedLong.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
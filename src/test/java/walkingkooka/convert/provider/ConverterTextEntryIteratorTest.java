@@ -0,0 +1,153 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterTextEntryIteratorTest implements ClassTesting<ConverterTextEntryIterator>,
+    ToStringTesting<ConverterTextEntryIterator> {
+
+    @Test
+    public void testEmpty() {
+        this.entriesAndCheck("");
+    }
+
+    @Test
+    public void testWhitespace() {
+        this.entriesAndCheck("   ");
+    }
+
+    @Test
+    public void testOne() {
+        this.entriesAndCheck(
+            "abc",
+            "abc"
+        );
+    }
+
+    @Test
+    public void testSeveralTrimmed() {
+        this.entriesAndCheck(
+            " abc , def ghi,jkl ",
+            "abc",
+            "def ghi",
+            "jkl"
+        );
+    }
+
+    @Test
+    public void testEmptyEntry() {
+        this.entriesAndCheck(
+            "abc,,def",
+            "abc",
+            "",
+            "def"
+        );
+    }
+
+    @Test
+    public void testTrailingSeparator() {
+        this.entriesAndCheck(
+            "abc,",
+            "abc",
+            ""
+        );
+    }
+
+    @Test
+    public void testSeparatorWithinParens() {
+        this.entriesAndCheck(
+            "alias1 name1(1, name2(2, 3)) https://example.com/name1, alias2",
+            "alias1 name1(1, name2(2, 3)) https://example.com/name1",
+            "alias2"
+        );
+    }
+
+    @Test
+    public void testSeparatorWithinQuotes() {
+        this.entriesAndCheck(
+            "alias1 name1(\"a,)b\", ',') , alias2",
+            "alias1 name1(\"a,)b\", ',')",
+            "alias2"
+        );
+    }
+
+    @Test
+    public void testEscapedQuote() {
+        this.entriesAndCheck(
+            "alias1 name1(\"a\\\",b\"), alias2",
+            "alias1 name1(\"a\\\",b\")",
+            "alias2"
+        );
+    }
+
+    @Test
+    public void testNextAfterLastFails() {
+        final ConverterTextEntryIterator iterator = ConverterTextEntryIterator.with("abc");
+        iterator.next();
+
+        assertThrows(
+            NoSuchElementException.class,
+            iterator::next
+        );
+    }
+
+    private void entriesAndCheck(final CharSequence text,
+                                 final String... expected) {
+        final List<String> entries = Lists.array();
+        ConverterTextEntryIterator.with(text)
+            .forEachRemaining(entries::add);
+
+        this.checkEquals(
+            Lists.of(expected),
+            entries,
+            text::toString
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ConverterTextEntryIterator.with("abc, def"),
+            "abc, def"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ConverterTextEntryIterator> type() {
+        return ConverterTextEntryIterator.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
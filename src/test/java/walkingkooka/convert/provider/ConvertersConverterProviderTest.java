@@ -32,6 +32,8 @@ import walkingkooka.text.CaseKind;
 import java.lang.reflect.Method;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public final class ConvertersConverterProviderTest implements ConverterProviderTesting<ConvertersConverterProvider> {
 
     private final static ProviderContext CONTEXT = ProviderContexts.fake();
@@ -445,6 +447,40 @@ public final class ConvertersConverterProviderTest implements ConverterProviderT
         );
     }
 
+    // converterInfos...................................................................................................
+
+    @Test
+    public void testConverterInfosContainsBooleanToNumber() {
+        this.checkEquals(
+            true,
+            this.createConverterProvider()
+                .converterInfos()
+                .contains(
+                    ConverterInfo.parse("https://github.com/mP1/walkingkooka-convert-provider/Converter/boolean-to-number boolean-to-number")
+                )
+        );
+    }
+
+    @Test
+    public void testConverterInfosSize() {
+        this.checkEquals(
+            ConverterName.NAME_TO_FACTORY.size(),
+            this.createConverterProvider()
+                .converterInfos()
+                .size()
+        );
+    }
+
+    @Test
+    public void testConverterInfosMemoized() {
+        final ConvertersConverterProvider provider = this.createConverterProvider();
+
+        assertSame(
+            provider.converterInfos(),
+            provider.converterInfos()
+        );
+    }
+
     @Override
     public ConvertersConverterProvider createConverterProvider() {
         return ConvertersConverterProvider.INSTANCE;
@@ -27,6 +27,8 @@ import walkingkooka.reflect.JavaVisibility;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 public final class FilteredConverterProviderTest implements ConverterProviderTesting<FilteredConverterProvider>,
     ToStringTesting<FilteredConverterProvider> {
 
@@ -69,6 +71,82 @@ public final class FilteredConverterProviderTest implements ConverterProviderTes
         );
     }
 
+    @Test
+    public void testConverterNameNotConstantFilter() {
+        final ConverterName name = ConverterName.LOCAL_DATE_TIME_TO_NUMBER;
+        final List<?> values = Lists.empty();
+
+        this.converterAndCheck(
+            FilteredConverterProvider.with(
+                ConverterProviders.converters(),
+                ConverterInfoSet.parse(
+                    "https://github.com/mP1/walkingkooka-convert-provider/converter/local-date-time-to-number local-date-time-to-number," +
+                        "https://example.com/custom custom"
+                )
+            ),
+            name,
+            values,
+            CONTEXT,
+            ConverterProviders.converters()
+                .converter(
+                    name,
+                    values,
+                    CONTEXT
+                )
+        );
+    }
+
+    @Test
+    public void testConverterNameNotConstantFails() {
+        this.converterFails(
+            ConverterName.with("unknown-123"),
+            Lists.empty(),
+            CONTEXT
+        );
+    }
+
+    @Test
+    public void testConverterNameUnknownSameMessageBitSetAndNotConstant() {
+        final String bitSet = this.converterUnknownMessage(
+            ConverterInfoSet.parse(
+                "https://github.com/mP1/walkingkooka-convert-provider/converter/local-date-time-to-number local-date-time-to-number"
+            )
+        );
+        final String notConstant = this.converterUnknownMessage(
+            ConverterInfoSet.parse(
+                "https://github.com/mP1/walkingkooka-convert-provider/converter/local-date-time-to-number local-date-time-to-number," +
+                    "https://example.com/custom custom"
+            )
+        );
+
+        this.checkEquals(
+            "Unknown Converter never",
+            bitSet,
+            "bitset"
+        );
+        this.checkEquals(
+            bitSet,
+            notConstant,
+            "not constant"
+        );
+    }
+
+    private String converterUnknownMessage(final ConverterInfoSet infos) {
+        final FilteredConverterProvider provider = FilteredConverterProvider.with(
+            ConverterProviders.converters(),
+            infos
+        );
+
+        return assertThrows(
+            IllegalArgumentException.class,
+            () -> provider.converter(
+                ConverterName.NEVER,
+                Lists.empty(),
+                CONTEXT
+            )
+        ).getMessage();
+    }
+
     @Test
     public void testConverterInfos() {
         this.converterInfosAndCheck(
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.convert.ConverterContexts;
+import walkingkooka.convert.Converters;
+
+import java.util.Arrays;
+
+/**
+ * A manual benchmark comparing convert calls on a plain {@link Converter} against the same {@link Converter} wrapped
+ * by {@link InstrumentedConverter} with a sample rate of 1 and 100, printing the median time per call of several
+ * rounds. It is not part of the test suite, run it with the test classpath:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=walkingkooka.convert.provider.InstrumentedConverterBenchmark
+ * </pre>
+ */
+public final class InstrumentedConverterBenchmark {
+
+    private final static int ROUNDS = 11;
+
+    private final static int ITERATIONS = 1_000_000;
+
+    public static void main(final String[] args) {
+        final ConverterContext context = ConverterContexts.fake();
+        final Converter<ConverterContext> plain = Converters.simple();
+
+        final long[] plainNanos = new long[ROUNDS];
+        final long[] everyNanos = new long[ROUNDS];
+        final long[] sampledNanos = new long[ROUNDS];
+
+        for (int r = 0; r < ROUNDS; r++) {
+            plainNanos[r] = convert(
+                plain,
+                context
+            );
+            everyNanos[r] = convert(
+                instrumented(plain, 1),
+                context
+            );
+            sampledNanos[r] = convert(
+                instrumented(plain, 100),
+                context
+            );
+        }
+
+        System.out.println(
+            InstrumentedConverterBenchmark.class.getSimpleName() +
+                " plain " + median(plainNanos) + "ns" +
+                " sampleRate=1 " + median(everyNanos) + "ns" +
+                " sampleRate=100 " + median(sampledNanos) + "ns"
+        );
+    }
+
+    private static Converter<ConverterContext> instrumented(final Converter<ConverterContext> converter,
+                                                            final int sampleRate) {
+        return InstrumentedConverter.with(
+            converter,
+            ConverterConversionRegistry.create()
+                .counters(ConverterName.SIMPLE),
+            sampleRate
+        );
+    }
+
+    private static long convert(final Converter<ConverterContext> converter,
+                                final ConverterContext context) {
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            converter.convert(
+                "abc",
+                String.class,
+                context
+            );
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long median(final long[] nanos) {
+        Arrays.sort(nanos);
+        return nanos[nanos.length / 2] / ITERATIONS;
+    }
+
+    private InstrumentedConverterBenchmark() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.set.Sets;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.convert.ConverterContexts;
+import walkingkooka.convert.Converters;
+import walkingkooka.plugin.ProviderContext;
+import walkingkooka.plugin.ProviderContexts;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class InstrumentedConverterProviderTest implements ConverterProviderTesting<InstrumentedConverterProvider>,
+    ToStringTesting<InstrumentedConverterProvider> {
+
+    private final static ProviderContext CONTEXT = ProviderContexts.fake();
+
+    private final static ConverterContext CONVERTER_CONTEXT = ConverterContexts.fake();
+
+    @Test
+    public void testWithNullProviderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> InstrumentedConverterProvider.with(
+                null,
+                ConverterConversionRegistry.create(),
+                1
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullRegistryFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> InstrumentedConverterProvider.with(
+                ConverterProviders.converters(),
+                null,
+                1
+            )
+        );
+    }
+
+    @Test
+    public void testWithInvalidSampleRateFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> InstrumentedConverterProvider.with(
+                ConverterProviders.converters(),
+                ConverterConversionRegistry.create(),
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testConverterNameWrapped() {
+        final Converter<ConverterContext> converter = this.createConverterProvider()
+            .converter(
+                ConverterName.BOOLEAN_TO_NUMBER,
+                Lists.empty(),
+                CONTEXT
+            );
+
+        this.checkEquals(
+            InstrumentedConverter.class,
+            converter.getClass(),
+            "class"
+        );
+        this.checkEquals(
+            Converters.booleanToNumber().toString(),
+            converter.toString(),
+            "toString"
+        );
+    }
+
+    @Test
+    public void testConverterSelectorConvertRecorded() {
+        final ConverterConversionRegistry registry = ConverterConversionRegistry.create();
+
+        final Converter<ConverterContext> converter = InstrumentedConverterProvider.with(
+            ConverterProviders.converters(),
+            registry,
+            1
+        ).converter(
+            ConverterSelector.parse("simple"),
+            CONTEXT
+        );
+
+        converter.canConvert(
+            "abc",
+            String.class,
+            CONVERTER_CONTEXT
+        );
+        converter.convert(
+            "abc",
+            String.class,
+            CONVERTER_CONTEXT
+        );
+        converter.convert(
+            123,
+            String.class,
+            CONVERTER_CONTEXT
+        );
+
+        final ConverterConversionMetric stringToString = registry.metric(
+            ConverterName.SIMPLE,
+            String.class,
+            String.class
+        );
+        this.checkEquals(
+            1L,
+            stringToString.canConvertCount(),
+            "canConvertCount"
+        );
+        this.checkEquals(
+            1L,
+            stringToString.convertSuccessCount(),
+            "convertSuccessCount"
+        );
+        this.checkEquals(
+            1L,
+            stringToString.sampleCount(),
+            "sampleCount"
+        );
+
+        this.checkEquals(
+            1L,
+            registry.metric(
+                ConverterName.SIMPLE,
+                Integer.class,
+                String.class
+            ).convertFailureCount(),
+            "convertFailureCount"
+        );
+    }
+
+    @Test
+    public void testConverterSelectorNestedWrapped() {
+        final ConverterConversionRegistry registry = ConverterConversionRegistry.create();
+
+        final Converter<ConverterContext> converter = InstrumentedConverterProvider.with(
+            ConverterProviders.converters(),
+            registry,
+            1
+        ).converter(
+            ConverterSelector.parse("collection (simple)"),
+            CONTEXT
+        );
+
+        converter.convert(
+            "abc",
+            String.class,
+            CONVERTER_CONTEXT
+        );
+
+        this.checkEquals(
+            Sets.of(
+                ConverterName.COLLECTION,
+                ConverterName.SIMPLE
+            ),
+            registry.snapshot()
+                .keySet(),
+            "recorded names"
+        );
+    }
+
+    @Test
+    public void testConverterInfos() {
+        this.converterInfosAndCheck(
+            ConverterProviders.converters()
+                .converterInfos()
+        );
+    }
+
+    @Override
+    public InstrumentedConverterProvider createConverterProvider() {
+        return InstrumentedConverterProvider.with(
+            ConverterProviders.converters(),
+            ConverterConversionRegistry.create(),
+            100
+        );
+    }
+
+    // ToString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverterProvider(),
+            ConverterProviders.converters()
+                .toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<InstrumentedConverterProvider> type() {
+        return InstrumentedConverterProvider.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
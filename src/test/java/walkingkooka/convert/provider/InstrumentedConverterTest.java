@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.convert.ConverterContexts;
+import walkingkooka.convert.Converters;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class InstrumentedConverterTest implements ClassTesting<InstrumentedConverter<?>>,
+    ToStringTesting<InstrumentedConverter<?>> {
+
+    private final static ConverterContext CONTEXT = ConverterContexts.fake();
+
+    @Test
+    public void testWithNullConverterFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> InstrumentedConverter.with(
+                null,
+                ConverterConversionRegistry.create()
+                    .counters(ConverterName.SIMPLE),
+                1
+            )
+        );
+    }
+
+    @Test
+    public void testConvertSampled() {
+        final ConverterConversionRegistry registry = ConverterConversionRegistry.create();
+        final InstrumentedConverter<ConverterContext> converter = InstrumentedConverter.with(
+            Converters.simple(),
+            registry.counters(ConverterName.SIMPLE),
+            1
+        );
+
+        for (int i = 0; i < 5; i++) {
+            converter.convert(
+                "abc",
+                String.class,
+                CONTEXT
+            );
+        }
+
+        final ConverterConversionMetric metric = registry.metric(
+            ConverterName.SIMPLE,
+            String.class,
+            String.class
+        );
+        this.checkEquals(
+            5L,
+            metric.convertCount(),
+            "convertCount"
+        );
+        this.checkEquals(
+            5L,
+            metric.sampleCount(),
+            "sampleCount"
+        );
+    }
+
+    @Test
+    public void testConvertSampleRate() {
+        final ConverterConversionRegistry registry = ConverterConversionRegistry.create();
+        final InstrumentedConverter<ConverterContext> converter = InstrumentedConverter.with(
+            Converters.simple(),
+            registry.counters(ConverterName.SIMPLE),
+            3
+        );
+
+        for (int i = 0; i < 7; i++) {
+            converter.convert(
+                "abc",
+                String.class,
+                CONTEXT
+            );
+        }
+
+        final ConverterConversionMetric metric = registry.metric(
+            ConverterName.SIMPLE,
+            String.class,
+            String.class
+        );
+        this.checkEquals(
+            7L,
+            metric.convertCount(),
+            "convertCount"
+        );
+        this.checkEquals(
+            3L,
+            metric.sampleCount(),
+            "sampleCount"
+        );
+    }
+
+    @Test
+    public void testConvertDifferentTypes() {
+        final ConverterConversionRegistry registry = ConverterConversionRegistry.create();
+        final InstrumentedConverter<ConverterContext> converter = InstrumentedConverter.with(
+            Converters.simple(),
+            registry.counters(ConverterName.SIMPLE),
+            1
+        );
+
+        converter.convert("abc", String.class, CONTEXT);
+        converter.convert(123, Integer.class, CONTEXT);
+        converter.convert("def", String.class, CONTEXT);
+        converter.canConvert(456, Integer.class, CONTEXT);
+
+        this.checkEquals(
+            2L,
+            registry.metric(
+                ConverterName.SIMPLE,
+                String.class,
+                String.class
+            ).convertCount(),
+            "String -> String convertCount"
+        );
+
+        final ConverterConversionMetric integerToInteger = registry.metric(
+            ConverterName.SIMPLE,
+            Integer.class,
+            Integer.class
+        );
+        this.checkEquals(
+            1L,
+            integerToInteger.convertCount(),
+            "Integer -> Integer convertCount"
+        );
+        this.checkEquals(
+            1L,
+            integerToInteger.canConvertCount(),
+            "Integer -> Integer canConvertCount"
+        );
+    }
+
+    @Test
+    public void testConvertNullValue() {
+        final ConverterConversionRegistry registry = ConverterConversionRegistry.create();
+        InstrumentedConverter.<ConverterContext>with(
+            Converters.simple(),
+            registry.counters(ConverterName.SIMPLE),
+            1
+        ).convert(
+            null,
+            String.class,
+            CONTEXT
+        );
+
+        this.checkEquals(
+            1L,
+            registry.metric(
+                ConverterName.SIMPLE,
+                Void.class,
+                String.class
+            ).convertCount()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            InstrumentedConverter.with(
+                Converters.simple(),
+                ConverterConversionRegistry.create()
+                    .counters(ConverterName.SIMPLE),
+                1
+            ),
+            Converters.simple()
+                .toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<InstrumentedConverter<?>> type() {
+        return Cast.to(InstrumentedConverter.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
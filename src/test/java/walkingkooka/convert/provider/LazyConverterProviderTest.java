@@ -0,0 +1,255 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converters;
+import walkingkooka.plugin.ProviderContext;
+import walkingkooka.plugin.ProviderContexts;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LazyConverterProviderTest implements ConverterProviderTesting<LazyConverterProvider>,
+    ToStringTesting<LazyConverterProvider> {
+
+    private final static ConverterInfoSet INFOS = ConverterInfoSet.parse(
+        "https://github.com/mP1/walkingkooka-convert-provider/Converter/simple simple"
+    );
+
+    private final static ProviderContext CONTEXT = ProviderContexts.fake();
+
+    @Test
+    public void testWithNullInfosFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LazyConverterProvider.with(
+                null,
+                ConverterProviders::converters
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullProviderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LazyConverterProvider.with(
+                INFOS,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testConverterInfosDoesntCreateProvider() {
+        final AtomicInteger created = new AtomicInteger();
+
+        this.converterInfosAndCheck(
+            LazyConverterProvider.with(
+                INFOS,
+                () -> {
+                    created.incrementAndGet();
+                    return ConverterProviders.converters();
+                }
+            ),
+            INFOS
+        );
+
+        this.checkEquals(
+            0,
+            created.get(),
+            "created"
+        );
+    }
+
+    @Test
+    public void testConverterName() {
+        this.converterAndCheck(
+            ConverterName.SIMPLE,
+            Lists.empty(),
+            CONTEXT,
+            Converters.simple()
+        );
+    }
+
+    @Test
+    public void testConverterSelector() {
+        this.converterAndCheck(
+            "simple",
+            CONTEXT,
+            Converters.simple()
+        );
+    }
+
+    @Test
+    public void testConverterUnknownNameDoesntCreateProvider() {
+        final AtomicInteger created = new AtomicInteger();
+
+        this.converterFails(
+            LazyConverterProvider.with(
+                INFOS,
+                () -> {
+                    created.incrementAndGet();
+                    return ConverterProviders.converters();
+                }
+            ),
+            ConverterName.BOOLEAN_TO_NUMBER,
+            Lists.empty(),
+            CONTEXT
+        );
+
+        this.checkEquals(
+            0,
+            created.get(),
+            "created"
+        );
+    }
+
+    @Test
+    public void testConverterUnknownNameMessage() {
+        final ConverterName name = ConverterName.BOOLEAN_TO_NUMBER;
+
+        this.checkEquals(
+            ConverterPluginHelper.INSTANCE.unknownName()
+                .apply(name)
+                .getMessage(),
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> this.createConverterProvider()
+                    .converter(
+                        name,
+                        Lists.empty(),
+                        CONTEXT
+                    )
+            ).getMessage()
+        );
+    }
+
+    @Test
+    public void testConverterNotBlockedBySupplierMonitor() throws Exception {
+        final Supplier<ConverterProvider> supplier = ConverterProviders::converters;
+        final LazyConverterProvider provider = LazyConverterProvider.with(
+            INFOS,
+            supplier
+        );
+        final AtomicBoolean resolved = new AtomicBoolean();
+
+        final Thread thread = new Thread(
+            () -> {
+                provider.converter(
+                    ConverterName.SIMPLE,
+                    Lists.empty(),
+                    CONTEXT
+                );
+                resolved.set(true);
+            }
+        );
+
+        synchronized (supplier) {
+            thread.start();
+            thread.join(5000);
+        }
+
+        this.checkEquals(
+            true,
+            resolved.get(),
+            "resolved while the supplier monitor was held"
+        );
+    }
+
+    @Test
+    public void testConverterCreatesProviderOnce() {
+        final AtomicInteger created = new AtomicInteger();
+        final LazyConverterProvider provider = LazyConverterProvider.with(
+            INFOS,
+            () -> {
+                created.incrementAndGet();
+                return ConverterProviders.converters();
+            }
+        );
+
+        provider.converter(
+            ConverterName.SIMPLE,
+            Lists.empty(),
+            CONTEXT
+        );
+        provider.converter(
+            ConverterName.SIMPLE,
+            Lists.empty(),
+            CONTEXT
+        );
+
+        this.checkEquals(
+            1,
+            created.get(),
+            "created"
+        );
+    }
+
+    @Test
+    public void testConverterSupplierReturnsNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LazyConverterProvider.with(
+                INFOS,
+                () -> null
+            ).converter(
+                ConverterName.SIMPLE,
+                Lists.empty(),
+                CONTEXT
+            )
+        );
+    }
+
+    @Override
+    public LazyConverterProvider createConverterProvider() {
+        return LazyConverterProvider.with(
+            INFOS,
+            ConverterProviders::converters
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverterProvider(),
+            INFOS.toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<LazyConverterProvider> type() {
+        return LazyConverterProvider.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
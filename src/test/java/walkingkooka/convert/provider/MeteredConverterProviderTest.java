@@ -0,0 +1,177 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converters;
+import walkingkooka.plugin.ProviderContext;
+import walkingkooka.plugin.ProviderContexts;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class MeteredConverterProviderTest implements ConverterProviderTesting<MeteredConverterProvider>,
+    ToStringTesting<MeteredConverterProvider> {
+
+    private final static ProviderContext CONTEXT = ProviderContexts.fake();
+
+    @Test
+    public void testWithNullProviderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> MeteredConverterProvider.with(
+                null,
+                ConverterMetricRegistry.create()
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullRegistryFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> MeteredConverterProvider.with(
+                ConverterProviders.converters(),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testConverterName() {
+        final ConverterMetricRegistry registry = ConverterMetricRegistry.create();
+
+        this.converterAndCheck(
+            MeteredConverterProvider.with(
+                ConverterProviders.converters(),
+                registry
+            ),
+            ConverterName.BOOLEAN_TO_NUMBER,
+            Lists.empty(),
+            CONTEXT,
+            Converters.booleanToNumber()
+        );
+
+        final ConverterMetric metric = registry.metric(ConverterName.BOOLEAN_TO_NUMBER);
+        this.checkEquals(
+            1L,
+            metric.count(),
+            "count"
+        );
+        this.checkEquals(
+            0L,
+            metric.failureCount(),
+            "failureCount"
+        );
+    }
+
+    @Test
+    public void testConverterSelectorRecordsNestedNames() {
+        final ConverterMetricRegistry registry = ConverterMetricRegistry.create();
+
+        MeteredConverterProvider.with(
+            ConverterProviders.converters(),
+            registry
+        ).converter(
+            ConverterSelector.parse("collection (boolean-to-number, boolean-to-number)"),
+            CONTEXT
+        );
+
+        this.checkEquals(
+            1L,
+            registry.metric(ConverterName.COLLECTION)
+                .count(),
+            "collection count"
+        );
+        this.checkEquals(
+            2L,
+            registry.metric(ConverterName.BOOLEAN_TO_NUMBER)
+                .count(),
+            "boolean-to-number count"
+        );
+    }
+
+    @Test
+    public void testConverterUnknownNameRecordsFailure() {
+        final ConverterMetricRegistry registry = ConverterMetricRegistry.create();
+        final ConverterName name = ConverterName.with("unknown-404");
+
+        this.converterFails(
+            MeteredConverterProvider.with(
+                ConverterProviders.converters(),
+                registry
+            ),
+            name,
+            Lists.empty(),
+            CONTEXT
+        );
+
+        final ConverterMetric metric = registry.metric(name);
+        this.checkEquals(
+            1L,
+            metric.count(),
+            "count"
+        );
+        this.checkEquals(
+            1L,
+            metric.failureCount(),
+            "failureCount"
+        );
+    }
+
+    @Test
+    public void testConverterInfos() {
+        this.converterInfosAndCheck(
+            ConverterProviders.converters()
+                .converterInfos()
+        );
+    }
+
+    @Override
+    public MeteredConverterProvider createConverterProvider() {
+        return MeteredConverterProvider.with(
+            ConverterProviders.converters(),
+            ConverterMetricRegistry.create()
+        );
+    }
+
+    // ToString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverterProvider(),
+            ConverterProviders.converters()
+                .toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<MeteredConverterProvider> type() {
+        return MeteredConverterProvider.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
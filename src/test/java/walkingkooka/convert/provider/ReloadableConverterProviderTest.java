@@ -0,0 +1,255 @@
+/*
+ * Copyright 2024 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert.provider;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterContext;
+import walkingkooka.convert.Converters;
+import walkingkooka.plugin.ProviderContext;
+import walkingkooka.plugin.ProviderContexts;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ReloadableConverterProviderTest implements ConverterProviderTesting<ReloadableConverterProvider>,
+    ToStringTesting<ReloadableConverterProvider> {
+
+    private final static ConverterAliasSet ALIASES = ConverterAliasSet.parse("alias1 boolean-to-number");
+
+    private final static ConverterAliasSet ALIASES2 = ConverterAliasSet.parse("alias1 simple");
+
+    private final static ConverterName ALIAS1 = ConverterName.with("alias1");
+
+    private final static ProviderContext CONTEXT = ProviderContexts.fake();
+
+    @Test
+    public void testWithNullAliasesFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ReloadableConverterProvider.with(
+                null,
+                ConverterProviders.converters()
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullProviderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ReloadableConverterProvider.with(
+                ALIASES,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testConverterName() {
+        this.converterAndCheck(
+            ALIAS1,
+            Lists.empty(),
+            CONTEXT,
+            Converters.booleanToNumber()
+        );
+    }
+
+    @Test
+    public void testConverterSelector() {
+        this.converterAndCheck(
+            "alias1",
+            CONTEXT,
+            Converters.booleanToNumber()
+        );
+    }
+
+    @Test
+    public void testConverterInfos() {
+        this.converterInfosAndCheck(
+            ConverterProviders.aliases(
+                ALIASES,
+                ConverterProviders.converters()
+            ).converterInfos()
+        );
+    }
+
+    // reload...........................................................................................................
+
+    @Test
+    public void testReloadNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createConverterProvider()
+                .reload(null)
+        );
+    }
+
+    @Test
+    public void testReloadSame() {
+        final ReloadableConverterProvider provider = this.createConverterProvider();
+
+        this.checkEquals(
+            false,
+            provider.reload(ALIASES),
+            "reload"
+        );
+        this.checkEquals(
+            0L,
+            provider.generation(),
+            "generation"
+        );
+    }
+
+    @Test
+    public void testReloadDifferent() {
+        final ReloadableConverterProvider provider = this.createConverterProvider();
+
+        this.checkEquals(
+            true,
+            provider.reload(ALIASES2),
+            "reload"
+        );
+        this.checkEquals(
+            1L,
+            provider.generation(),
+            "generation"
+        );
+        this.checkEquals(
+            ALIASES2,
+            provider.aliases(),
+            "aliases"
+        );
+
+        this.converterAndCheck(
+            provider,
+            ALIAS1,
+            Lists.empty(),
+            CONTEXT,
+            Converters.simple()
+        );
+    }
+
+    @Test
+    public void testReloadDuringResolveCompletesWithPreviousGeneration() throws Exception {
+        final CountDownLatch resolving = new CountDownLatch(1);
+        final CountDownLatch reloaded = new CountDownLatch(1);
+
+        final ConverterProvider wrapped = ConverterProviders.converters();
+        final ReloadableConverterProvider provider = ReloadableConverterProvider.with(
+            ALIASES,
+            new FakeConverterProvider() {
+                @Override
+                public <C extends ConverterContext> Converter<C> converter(final ConverterSelector selector,
+                                                                           final ProviderContext context) {
+                    return selector.evaluateValueText(
+                        this,
+                        context
+                    );
+                }
+
+                @Override
+                public <C extends ConverterContext> Converter<C> converter(final ConverterName name,
+                                                                           final List<?> values,
+                                                                           final ProviderContext context) {
+                    if (ConverterName.BOOLEAN_TO_NUMBER.equals(name)) {
+                        resolving.countDown();
+                        try {
+                            reloaded.await();
+                        } catch (final InterruptedException cause) {
+                            throw new IllegalStateException(cause);
+                        }
+                    }
+                    return wrapped.converter(
+                        name,
+                        values,
+                        context
+                    );
+                }
+
+                @Override
+                public ConverterInfoSet converterInfos() {
+                    return wrapped.converterInfos();
+                }
+            }
+        );
+
+        final CompletableFuture<Converter<ConverterContext>> future = CompletableFuture.supplyAsync(
+            () -> provider.converter(
+                ALIAS1,
+                Lists.empty(),
+                CONTEXT
+            )
+        );
+
+        resolving.await();
+        provider.reload(ALIASES2);
+        reloaded.countDown();
+
+        this.checkEquals(
+            Converters.booleanToNumber(),
+            future.get(),
+            "in flight resolve"
+        );
+        this.checkEquals(
+            Converters.simple(),
+            provider.converter(
+                ALIAS1,
+                Lists.empty(),
+                CONTEXT
+            ),
+            "after reload"
+        );
+    }
+
+    @Override
+    public ReloadableConverterProvider createConverterProvider() {
+        return ReloadableConverterProvider.with(
+            ALIASES,
+            ConverterProviders.converters()
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createConverterProvider(),
+            "#0 " + ALIASES
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ReloadableConverterProvider> type() {
+        return ReloadableConverterProvider.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}